@@ -0,0 +1,207 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.benchmarks;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+import com.github.gerdreiss.optics.core.Lens;
+import com.github.gerdreiss.optics.core.ListLens;
+import com.github.gerdreiss.optics.core.MapView;
+import com.github.gerdreiss.optics.core.OptionalLens;
+import com.github.gerdreiss.optics.core.QueueLens;
+import com.github.gerdreiss.optics.core.SetLens;
+import com.github.gerdreiss.optics.core.StreamView;
+import com.github.gerdreiss.optics.core.View;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * The model all benchmarks run against: a chain of {@link Node}s, each of which carries a scalar value, an optional
+ * value and the collections traversed by the collection optics. The optics of a given depth walk down the chain
+ * ({@code depth - 1} child lenses) before focusing on the leaf property, so a depth of 1 is the leaf optic alone.
+ */
+public final class BenchmarkModel {
+
+    public static final int MAX_DEPTH = 16;
+
+    private BenchmarkModel() {
+    }
+
+    /**
+     * An immutable node of the benchmark model
+     */
+    public static final class Node {
+
+        final Node child;
+        final int value;
+        final Optional<Integer> maybeValue;
+        final List<Integer> list;
+        final Set<Integer> set;
+        final Queue<Integer> queue;
+        final Map<Integer, Integer> map;
+
+        Node(
+                Node child,
+                int value,
+                Optional<Integer> maybeValue,
+                List<Integer> list,
+                Set<Integer> set,
+                Queue<Integer> queue,
+                Map<Integer, Integer> map
+        ) {
+            this.child = child;
+            this.value = value;
+            this.maybeValue = maybeValue;
+            this.list = list;
+            this.set = set;
+            this.queue = queue;
+            this.map = map;
+        }
+
+        public Node getChild() {
+            return child;
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+        public Optional<Integer> getMaybeValue() {
+            return maybeValue;
+        }
+
+        public List<Integer> getList() {
+            return list;
+        }
+
+        public Set<Integer> getSet() {
+            return set;
+        }
+
+        public Queue<Integer> getQueue() {
+            return queue;
+        }
+
+        public Map<Integer, Integer> getMap() {
+            return map;
+        }
+    }
+
+    /**
+     * Builds a chain of {@link #MAX_DEPTH} nodes whose collections all hold {@code size} elements. The collections are
+     * shared between the nodes, they are never mutated.
+     */
+    public static Node chain(int size) {
+        var list = IntStream.range(0, size).boxed().collect(toList());
+        var set = IntStream.range(0, size).boxed().collect(toSet());
+        var queue = new ArrayDeque<>(list);
+        var map = IntStream.range(0, size).boxed().collect(toMap(Function.identity(), Function.identity()));
+
+        Node node = null;
+        for (int i = MAX_DEPTH; i > 0; i--) {
+            node = new Node(node, i, Optional.of(i), list, set, queue, map);
+        }
+        return node;
+    }
+
+    /**
+     * LEAF VIEWS
+     */
+    public static final View<Node, Node> CHILD_VIEW = View.of(Node::getChild);
+    public static final View<Node, Integer> VALUE_VIEW = View.of(Node::getValue);
+    public static final StreamView<Node, Integer> STREAM_VIEW = StreamView.of((Node n) -> n.getList().stream());
+    public static final MapView<Node, Integer, Integer> MAP_VIEW = MapView.of(Node::getMap);
+
+    /**
+     * LEAF LENSES
+     */
+    public static final Lens<Node, Node> CHILD_LENS =
+            Lens.of(Node::getChild, (n, c) -> new Node(c, n.value, n.maybeValue, n.list, n.set, n.queue, n.map));
+    public static final Lens<Node, Integer> VALUE_LENS =
+            Lens.of(Node::getValue, (n, v) -> new Node(n.child, v, n.maybeValue, n.list, n.set, n.queue, n.map));
+    public static final OptionalLens<Node, Integer> MAYBE_VALUE_LENS =
+            OptionalLens.of(
+                    Node::getMaybeValue,
+                    (n, v) -> new Node(n.child, n.value, v, n.list, n.set, n.queue, n.map));
+    public static final ListLens<Node, Integer> LIST_LENS =
+            ListLens.of(Node::getList, (n, l) -> new Node(n.child, n.value, n.maybeValue, l, n.set, n.queue, n.map));
+    public static final SetLens<Node, Integer> SET_LENS =
+            SetLens.of(Node::getSet, (n, s) -> new Node(n.child, n.value, n.maybeValue, n.list, s, n.queue, n.map));
+    public static final QueueLens<Node, Integer> QUEUE_LENS =
+            QueueLens.of(Node::getQueue, (n, q) -> new Node(n.child, n.value, n.maybeValue, n.list, n.set, q, n.map));
+
+    /**
+     * The view of the node {@code levels} steps down the chain, composed left to right the way user code does it
+     */
+    static View<Node, Node> childView(int levels) {
+        var view = CHILD_VIEW;
+        for (int i = 1; i < levels; i++) {
+            view = view.andThen(CHILD_VIEW);
+        }
+        return view;
+    }
+
+    /**
+     * The lens of the node {@code levels} steps down the chain, composed left to right the way user code does it
+     */
+    static Lens<Node, Node> childLens(int levels) {
+        var lens = CHILD_LENS;
+        for (int i = 1; i < levels; i++) {
+            lens = lens.andThen(CHILD_LENS);
+        }
+        return lens;
+    }
+
+    public static View<Node, Integer> valueView(int depth) {
+        return depth == 1 ? VALUE_VIEW : childView(depth - 1).andThen(VALUE_VIEW);
+    }
+
+    public static StreamView<Node, Integer> streamView(int depth) {
+        return depth == 1 ? STREAM_VIEW : childView(depth - 1).andThen(STREAM_VIEW);
+    }
+
+    public static MapView<Node, Integer, Integer> mapView(int depth) {
+        return depth == 1 ? MAP_VIEW : childView(depth - 1).andThen(MAP_VIEW);
+    }
+
+    public static Lens<Node, Integer> valueLens(int depth) {
+        return depth == 1 ? VALUE_LENS : childLens(depth - 1).andThen(VALUE_LENS);
+    }
+
+    public static OptionalLens<Node, Integer> maybeValueLens(int depth) {
+        return depth == 1 ? MAYBE_VALUE_LENS : childLens(depth - 1).andThen(MAYBE_VALUE_LENS);
+    }
+
+    public static ListLens<Node, Integer> listLens(int depth) {
+        return depth == 1 ? LIST_LENS : childLens(depth - 1).andThen(LIST_LENS);
+    }
+
+    public static SetLens<Node, Integer> setLens(int depth) {
+        return depth == 1 ? SET_LENS : childLens(depth - 1).andThen(SET_LENS);
+    }
+
+    public static QueueLens<Node, Integer> queueLens(int depth) {
+        return depth == 1 ? QUEUE_LENS : childLens(depth - 1).andThen(QUEUE_LENS);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.benchmarks;
+
+import com.github.gerdreiss.optics.benchmarks.BenchmarkModel.Node;
+import com.github.gerdreiss.optics.core.ListLens;
+import com.github.gerdreiss.optics.core.PersistentVector;
+import com.github.gerdreiss.optics.core.VectorLens;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class ListLensBenchmark extends OpticsState {
+
+    private ListLens<Node, Integer> lens;
+    private List<Integer> values;
+    private ListLens<List<Integer>, Integer> identityListLens;
+    private VectorLens<PersistentVector<Integer>, Integer> identityVectorLens;
+    private PersistentVector<Integer> vector;
+
+    @Override
+    protected void setUpOptic() {
+        lens = BenchmarkModel.listLens(depth);
+        values = List.copyOf(lens.getList(root));
+        identityListLens = ListLens.of((List<Integer> list) -> list, (list, updated) -> updated);
+        identityVectorLens = ListLens.ofVector((PersistentVector<Integer> v) -> v, (v, updated) -> updated);
+        vector = PersistentVector.ofAll(values);
+    }
+
+    @Benchmark
+    public List<Integer> getList() {
+        return lens.getList(root);
+    }
+
+    @Benchmark
+    public Integer getLast() {
+        return lens.getLast(root).orElse(null);
+    }
+
+    @Benchmark
+    public Node set() {
+        return lens.set(root, values);
+    }
+
+    @Benchmark
+    public Node modify() {
+        return lens.modify(root, v -> v + 1);
+    }
+
+    @Benchmark
+    public List<Integer> listModifyAt() {
+        return identityListLens.modifyAt(values, values.size() / 2, v -> v + 1);
+    }
+
+    @Benchmark
+    public List<Integer> vectorModifyAt() {
+        return identityVectorLens.modifyAt(vector, vector.size() / 2, v -> v + 1);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.benchmarks;
+
+import com.github.gerdreiss.optics.benchmarks.BenchmarkModel.Node;
+import com.github.gerdreiss.optics.core.MapView;
+import com.github.gerdreiss.optics.core.View;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class MapViewBenchmark extends OpticsState {
+
+    private static final View<Integer, Integer> INCREMENT = View.of(v -> v + 1);
+
+    private MapView<Node, Integer, Integer> view;
+    private MapView<Node, Integer, Integer> mappedView;
+    private MapView<Node, Integer, Integer> lazyMappedView;
+
+    @Override
+    protected void setUpOptic() {
+        view = BenchmarkModel.mapView(depth);
+        mappedView = view.andThen(INCREMENT);
+        lazyMappedView = view.lazy().andThen(INCREMENT);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> getMap() {
+        return view.getMap(root);
+    }
+
+    @Benchmark
+    public Integer getMappedKey() {
+        return mappedView.getMap(root).get(size / 2);
+    }
+
+    @Benchmark
+    public Integer getLazyMappedKey() {
+        return lazyMappedView.get(root, size / 2);
+    }
+}
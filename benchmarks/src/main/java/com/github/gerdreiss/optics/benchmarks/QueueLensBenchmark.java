@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.benchmarks;
+
+import com.github.gerdreiss.optics.benchmarks.BenchmarkModel.Node;
+import com.github.gerdreiss.optics.core.QueueLens;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class QueueLensBenchmark extends OpticsState {
+
+    private QueueLens<Node, Integer> lens;
+    private Queue<Integer> values;
+
+    @Override
+    protected void setUpOptic() {
+        lens = BenchmarkModel.queueLens(depth);
+        values = new ArrayDeque<>(lens.getQueue(root));
+    }
+
+    @Benchmark
+    public Queue<Integer> getQueue() {
+        return lens.getQueue(root);
+    }
+
+    @Benchmark
+    public Node set() {
+        return lens.set(root, values);
+    }
+
+    @Benchmark
+    public Node modify() {
+        return lens.modify(root, v -> v + 1);
+    }
+}
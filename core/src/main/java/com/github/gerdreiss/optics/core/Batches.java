@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * The loops of the batch operations of the optics. The inputs are copied into arrays once, so that the loops are
+ * plain indexed loops the JIT can unroll, and batches of at least the parallel threshold are split across the
+ * common fork-join pool.
+ */
+final class Batches {
+
+    private Batches() {
+    }
+
+    static <A, B> void mapInto(A[] in, B[] out, Function<A, B> f, int parallelThreshold) {
+        if (out.length < in.length) {
+            throw new IllegalArgumentException("Output length " + out.length + " < input length " + in.length);
+        }
+        var size = in.length;
+        if (size >= ListView.checkThreshold(parallelThreshold)) {
+            IntStream.range(0, size).parallel().forEach(i -> out[i] = f.apply(in[i]));
+        } else {
+            for (int i = 0; i < size; i++) {
+                out[i] = f.apply(in[i]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, B> List<B> map(List<A> in, Function<A, B> f, int parallelThreshold) {
+        var as = (A[]) in.toArray();
+        var bs = (B[]) new Object[as.length];
+        mapInto(as, bs, f, parallelThreshold);
+        return Arrays.asList(bs);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, B, C> List<C> zipMap(List<A> in1, List<B> in2, BiFunction<A, B, C> f, int parallelThreshold) {
+        if (in1.size() != in2.size()) {
+            throw new IllegalArgumentException("Sizes differ: " + in1.size() + " != " + in2.size());
+        }
+        var as = (A[]) in1.toArray();
+        var bs = (B[]) in2.toArray();
+        var cs = (C[]) new Object[as.length];
+        var size = as.length;
+        if (size >= ListView.checkThreshold(parallelThreshold)) {
+            IntStream.range(0, size).parallel().forEach(i -> cs[i] = f.apply(as[i], bs[i]));
+        } else {
+            for (int i = 0; i < size; i++) {
+                cs[i] = f.apply(as[i], bs[i]);
+            }
+        }
+        return Arrays.asList(cs);
+    }
+}
@@ -17,6 +17,7 @@ package com.github.gerdreiss.optics.core;
 
 import static java.util.stream.Collectors.toList;
 
+import com.github.gerdreiss.optics.core.util.IterableUtils;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
@@ -24,18 +25,59 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-public class CollectionView<A, B> implements Function<A, Collection<B>> {
+public class CollectionView<A, B> extends Optic implements Function<A, Collection<B>> {
 
     private final Function<A, Collection<B>> fget;
+    private final int parallelThreshold;
 
     CollectionView(Function<A, Collection<B>> fget) {
+        this(fget, ListView.SEQUENTIAL);
+    }
+
+    CollectionView(Function<A, Collection<B>> fget, int parallelThreshold) {
         this.fget = fget;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    CollectionView(CollectionView<A, B> view, String name, Boolean endsInTraversal) {
+        super(name, endsInTraversal);
+        this.fget = view.fget;
+        this.parallelThreshold = view.parallelThreshold;
     }
 
     public static <A, B> CollectionView<A, B> of(final Function<A, Collection<B>> fget) {
         return new CollectionView<>(fget);
     }
 
+    /**
+     * Returns a copy of this view with the given name, which also names the paths of the optics composed of it
+     */
+    public CollectionView<A, B> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    CollectionView<A, B> renamed(String name, Boolean endsInTraversal) {
+        return new CollectionView<>(this, name, endsInTraversal);
+    }
+
+    @Override
+    boolean isTraversal() {
+        return true;
+    }
+
+    /**
+     * Returns a view that traverses collections of at least the given size in parallel, on the common fork-join pool.
+     * The views composed after it inherit the threshold. Results keep the encounter order of ordered collections.
+     */
+    public CollectionView<A, B> parallel(int threshold) {
+        return rename(new CollectionView<>(fget, ListView.checkThreshold(threshold)), name());
+    }
+
+    int parallelThreshold() {
+        return parallelThreshold;
+    }
+
     @Override
     public Collection<B> apply(A a) {
         return getCollection(a);
@@ -46,7 +88,11 @@ public class CollectionView<A, B> implements Function<A, Collection<B>> {
     }
 
     public Stream<B> getStream(A a) {
-        return a == null ? Stream.empty() : fget.apply(a).stream();
+        if (a == null) {
+            return Stream.empty();
+        }
+        var collection = fget.apply(a);
+        return collection.size() >= parallelThreshold ? collection.parallelStream() : collection.stream();
     }
 
     public Optional<B> getFirst(A a) {
@@ -66,23 +112,41 @@ public class CollectionView<A, B> implements Function<A, Collection<B>> {
     }
 
     public Optional<B> findFirst(A a, Predicate<B> predicate) {
-        return findAll(a, predicate).stream().findFirst();
+        return IterableUtils.findFirst(getCollection(a), predicate);
+    }
+
+    public Optional<B> findAny(A a, Predicate<B> predicate) {
+        return getStream(a).filter(predicate).findAny();
+    }
+
+    public boolean exists(A a, Predicate<B> predicate) {
+        return IterableUtils.exists(getCollection(a), predicate);
+    }
+
+    public boolean forAll(A a, Predicate<B> predicate) {
+        return IterableUtils.forAll(getCollection(a), predicate);
+    }
+
+    public long count(A a, Predicate<B> predicate) {
+        return IterableUtils.count(getCollection(a), predicate);
     }
 
     public <C> CollectionView<A, C> andThen(final View<B, C> that) {
-        return CollectionView.of((A a) -> getCollection(a).stream().map(that::get).collect(toList()));
+        return path(
+                this,
+                that,
+                () -> new CollectionView<>((A a) -> getStream(a).map(that::get).collect(toList()), parallelThreshold));
     }
 
     public <C> CollectionView<A, Optional<C>> andThen(final OptionalView<B, C> that) {
-        return CollectionView.of((A a) -> getCollection(a).stream()
-                .map(that::getOptional)
-                .collect(toList()));
+        return path(new CollectionView<>(
+                (A a) -> getStream(a).map(that::getOptional).collect(toList()), parallelThreshold), this, that);
     }
 
     public <C> CollectionView<A, C> andThen(final CollectionView<B, C> that) {
-        return CollectionView.of((A a) -> getCollection(a).stream()
-                .flatMap(b -> that.getCollection(b).stream())
-                .collect(toList()));
+        return path(new CollectionView<>(
+                (A a) -> getStream(a).flatMap(b -> that.getCollection(b).stream()).collect(toList()),
+                Math.min(parallelThreshold, that.parallelThreshold)), this, that);
     }
 
     public <C> CollectionView<C, B> compose(final View<C, A> that) {
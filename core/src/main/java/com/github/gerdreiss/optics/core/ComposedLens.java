@@ -0,0 +1,164 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.Arrays;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * A lens composed of a path of lenses. Instead of nesting one setter into the other, which re-runs every getter from
+ * the root at every level of the path, the composed lens keeps the flattened path and walks it once: on the way down it
+ * collects the intermediate values, on the way up it rebuilds them. Setting a value through a path of N lenses takes
+ * N - 1 gets and N sets, modifying it N gets and N sets.
+ *
+ * <p>A composed lens preserves identity if the lens at the end of its path does, or if it was made to: an update that
+ * leaves the value unchanged returns the target itself, and so does every level of the path whose value was not
+ * rebuilt.
+ *
+ * @param <A> The object into whose property we want to view or update
+ * @param <B> The object property which we want to view or update
+ */
+final class ComposedLens<A, B> extends Lens<A, B> {
+
+    private final Lens<Object, Object>[] path;
+
+    @SuppressWarnings("unchecked")
+    private ComposedLens(Lens<Object, Object>[] path, BiPredicate<? super B, ? super B> unchanged) {
+        super(a -> (B) get(path, a), (a, b) -> (A) set(path, 0, a, b, null), unchanged);
+        this.path = path;
+    }
+
+    ComposedLens(ComposedLens<A, B> lens, String name, Boolean endsInTraversal) {
+        super(lens, name, endsInTraversal);
+        this.path = lens.path;
+    }
+
+    static <A, B, C> Lens<A, C> of(Lens<A, B> first, Lens<B, C> second) {
+        var head = pathOf(first);
+        var tail = pathOf(second);
+        var path = Arrays.copyOf(head, head.length + tail.length);
+        System.arraycopy(tail, 0, path, head.length, tail.length);
+        return new ComposedLens<>(path, second.unchanged());
+    }
+
+    @SuppressWarnings("unchecked")
+    static Lens<Object, Object>[] pathOf(Lens<?, ?> lens) {
+        return lens instanceof ComposedLens
+                ? ((ComposedLens<?, ?>) lens).path
+                : (Lens<Object, Object>[]) new Lens<?, ?>[] {lens};
+    }
+
+    @Override
+    public Lens<A, B> preservingIdentity(BiPredicate<? super B, ? super B> unchanged) {
+        return rename(new ComposedLens<>(path, unchanged), name());
+    }
+
+    @Override
+    public Lens<A, B> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    ComposedLens<A, B> renamed(String name, Boolean endsInTraversal) {
+        return new ComposedLens<>(this, name, endsInTraversal);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public B get(A a) {
+        return (B) get(path, a);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public A set(A target, B value) {
+        var event = OpticEvents.start();
+        var result = (A) set(path, 0, target, value, (BiPredicate<Object, Object>) unchanged());
+        OpticEvents.end(event, this, "Lens.set", -1);
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public A modify(A target, Function<B, B> modifier) {
+        var event = OpticEvents.start();
+        var result = (A) modify(
+                path, 0, target, (Function<Object, Object>) modifier, (BiPredicate<Object, Object>) unchanged());
+        OpticEvents.end(event, this, "Lens.modify", -1);
+        return result;
+    }
+
+    private static Object get(Lens<Object, Object>[] path, Object target) {
+        var value = target;
+        for (int i = 0; i < path.length && value != null; i++) {
+            value = path[i].get(value);
+        }
+        return value;
+    }
+
+    private static Object set(
+            Lens<Object, Object>[] path, int i, Object target, Object value, BiPredicate<Object, Object> unchanged) {
+        if (target == null) {
+            return null;
+        }
+        var lens = path[i];
+        if (unchanged == null) {
+            return i == path.length - 1
+                    ? rebuild(lens, target, value)
+                    : rebuild(lens, target, set(path, i + 1, lens.get(target), value, null));
+        }
+        var current = lens.get(target);
+        if (i == path.length - 1) {
+            return unchanged.test(current, value) ? target : lens.rebuild(target, value);
+        }
+        var updated = set(path, i + 1, current, value, unchanged);
+        return updated == current ? target : lens.rebuild(target, updated);
+    }
+
+    private static Object modify(
+            Lens<Object, Object>[] path,
+            int i,
+            Object target,
+            Function<Object, Object> modifier,
+            BiPredicate<Object, Object> unchanged) {
+        if (target == null) {
+            return null;
+        }
+        var lens = path[i];
+        if (unchanged == null) {
+            return i == path.length - 1
+                    ? rebuild(lens, target, modifier.apply(lens.get(target)))
+                    : rebuild(lens, target, modify(path, i + 1, lens.get(target), modifier, null));
+        }
+        var current = lens.get(target);
+        if (i == path.length - 1) {
+            var modified = modifier.apply(current);
+            return unchanged.test(current, modified) ? target : lens.rebuild(target, modified);
+        }
+        var updated = modify(path, i + 1, current, modifier, unchanged);
+        return updated == current ? target : lens.rebuild(target, updated);
+    }
+
+    /**
+     * Sets the value of a lens on the path, which still returns the target if the lens preserves identity and the
+     * value is unchanged. The composed lens reports the update once, instead of once per level of the path.
+     */
+    private static Object rebuild(Lens<Object, Object> lens, Object target, Object value) {
+        var unchanged = lens.unchanged();
+        return unchanged != null && unchanged.test(lens.get(target), value) ? target : lens.rebuild(target, value);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A lens of a {@code double} property that reads and updates it without boxing
+ *
+ * @param <A> The object into whose property we want to view or update
+ */
+public class DoubleLens<A> extends DoubleView<A> {
+
+    /**
+     * Returns a copy of the target with the property set to the value
+     */
+    @FunctionalInterface
+    public interface Setter<A> {
+        A set(A target, double value);
+    }
+
+    private final Setter<A> fset;
+    private final boolean preservingIdentity;
+
+    DoubleLens(ToDoubleFunction<A> fget, Setter<A> fset) {
+        this(fget, fset, false);
+    }
+
+    DoubleLens(ToDoubleFunction<A> fget, Setter<A> fset, boolean preservingIdentity) {
+        super(fget);
+        this.fset = fset;
+        this.preservingIdentity = preservingIdentity;
+    }
+
+    DoubleLens(DoubleLens<A> lens, boolean preservingIdentity) {
+        super(lens);
+        this.fset = lens.fset;
+        this.preservingIdentity = preservingIdentity;
+    }
+
+    DoubleLens(DoubleLens<A> lens, String name, Boolean endsInTraversal) {
+        super(lens, name, endsInTraversal);
+        this.fset = lens.fset;
+        this.preservingIdentity = lens.preservingIdentity;
+    }
+
+    public static <A> DoubleLens<A> of(ToDoubleFunction<A> fget, Setter<A> fset) {
+        return new DoubleLens<>(fget, fset);
+    }
+
+    @Override
+    public DoubleLens<A> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    DoubleLens<A> renamed(String name, Boolean endsInTraversal) {
+        return new DoubleLens<>(this, name, endsInTraversal);
+    }
+
+    /**
+     * Returns a lens that does not rebuild the target if the new value equals the current one, but returns the target
+     * itself
+     */
+    public DoubleLens<A> preservingIdentity() {
+        return new DoubleLens<>(this, true);
+    }
+
+    boolean isPreservingIdentity() {
+        return preservingIdentity;
+    }
+
+    public A set(A target, double value) {
+        if (target == null) {
+            return null;
+        }
+        return preservingIdentity && Double.compare(get(target), value) == 0 ? target : fset.set(target, value);
+    }
+
+    public DoubleFunction<A> set(A target) {
+        return (double value) -> set(target, value);
+    }
+
+    public A modify(A target, DoubleUnaryOperator modifier) {
+        return target == null ? null : set(target, modifier.applyAsDouble(get(target)));
+    }
+
+    public Lens<A, Double> boxed() {
+        return rename(Lens.of((A a) -> get(a), (A a, Double value) -> set(a, value)), name());
+    }
+
+    public <C> DoubleLens<C> compose(final Lens<C, A> that) {
+        return that.andThen(this);
+    }
+}
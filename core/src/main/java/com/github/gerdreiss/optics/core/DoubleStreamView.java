@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.OptionalDouble;
+import java.util.function.Function;
+import java.util.stream.DoubleStream;
+
+/**
+ * A view of a traversal of {@code double} properties that streams them without boxing
+ *
+ * @param <A> The object into whose properties we want to view
+ */
+public class DoubleStreamView<A> extends Optic implements Function<A, DoubleStream> {
+
+    private final Function<A, DoubleStream> fget;
+
+    DoubleStreamView(Function<A, DoubleStream> fget) {
+        this.fget = fget;
+    }
+
+    DoubleStreamView(DoubleStreamView<A> view, String name, Boolean endsInTraversal) {
+        super(name, endsInTraversal);
+        this.fget = view.fget;
+    }
+
+    public static <A> DoubleStreamView<A> of(final Function<A, DoubleStream> fget) {
+        return new DoubleStreamView<>(fget);
+    }
+
+    /**
+     * Returns a copy of this view with the given name, which also names the paths of the optics composed of it
+     */
+    public DoubleStreamView<A> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    DoubleStreamView<A> renamed(String name, Boolean endsInTraversal) {
+        return new DoubleStreamView<>(this, name, endsInTraversal);
+    }
+
+    @Override
+    boolean isTraversal() {
+        return true;
+    }
+
+    @Override
+    public DoubleStream apply(A a) {
+        return getStream(a);
+    }
+
+    public DoubleStream getStream(A a) {
+        return a == null ? DoubleStream.empty() : fget.apply(a);
+    }
+
+    public double sum(A a) {
+        return getStream(a).sum();
+    }
+
+    public OptionalDouble min(A a) {
+        return getStream(a).min();
+    }
+
+    public OptionalDouble max(A a) {
+        return getStream(a).max();
+    }
+
+    public <C> DoubleStreamView<C> compose(final View<C, A> that) {
+        return that.andThen(this);
+    }
+}
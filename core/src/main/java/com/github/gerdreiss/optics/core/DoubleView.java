@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.OptionalDouble;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A view of a {@code double} property that reads it without boxing
+ *
+ * @param <A> The object into whose property we want to view
+ */
+public class DoubleView<A> extends Optic implements ToDoubleFunction<A> {
+
+    private final ToDoubleFunction<A> fget;
+
+    DoubleView(ToDoubleFunction<A> fget) {
+        this.fget = fget;
+    }
+
+    DoubleView(DoubleView<A> view) {
+        super(view);
+        this.fget = view.fget;
+    }
+
+    DoubleView(DoubleView<A> view, String name, Boolean endsInTraversal) {
+        super(name, endsInTraversal);
+        this.fget = view.fget;
+    }
+
+    public static <A> DoubleView<A> of(ToDoubleFunction<A> fget) {
+        return new DoubleView<>(fget);
+    }
+
+    /**
+     * Returns a copy of this view with the given name, which also names the paths of the optics composed of it
+     */
+    public DoubleView<A> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    DoubleView<A> renamed(String name, Boolean endsInTraversal) {
+        return new DoubleView<>(this, name, endsInTraversal);
+    }
+
+    @Override
+    public double applyAsDouble(A a) {
+        return get(a);
+    }
+
+    /**
+     * Returns the value of the property, or 0 if the target is null
+     */
+    public double get(A a) {
+        return a == null ? 0 : fget.applyAsDouble(a);
+    }
+
+    public double getOrElse(A a, double other) {
+        return a == null ? other : fget.applyAsDouble(a);
+    }
+
+    public OptionalDouble getOptional(A a) {
+        return a == null ? OptionalDouble.empty() : OptionalDouble.of(fget.applyAsDouble(a));
+    }
+
+    public View<A, Double> boxed() {
+        return rename(View.of((A a) -> fget.applyAsDouble(a)), name());
+    }
+
+    public <C> DoubleView<C> compose(final View<C, A> that) {
+        return that.andThen(this);
+    }
+
+    public <C> DoubleStreamView<C> compose(final StreamView<C, A> that) {
+        return that.andThen(this);
+    }
+
+    public <C> DoubleStreamView<C> compose(final ListView<C, A> that) {
+        return that.andThen(this);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded cache keyed by the identity of its keys, which it references weakly so that they can be garbage collected.
+ * It backs the memoized views, which are sound because optics are meant for immutable data. The cache is safe for
+ * concurrent use: hits read a concurrent map without locking, while misses insert and evict under a lock. Values are
+ * computed outside the lock, so concurrent misses on the same key may compute the value more than once.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the cached values
+ */
+public final class IdentityCache<K, V> {
+
+    /**
+     * The entry evicted when the cache is full: the least recently used one, approximated by giving the entries used
+     * since they were last considered a second chance, or the first one inserted
+     */
+    public enum Policy {
+        LRU,
+        FIFO
+    }
+
+    private static final Object NULL = new Object();
+
+    private final int maxSize;
+    private final boolean lru;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ArrayDeque<WeakKey> order = new ArrayDeque<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    IdentityCache(int maxSize, Policy policy) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException(Integer.toString(maxSize));
+        }
+        this.maxSize = maxSize;
+        this.lru = policy == Policy.LRU;
+    }
+
+    public static <K, V> IdentityCache<K, V> of(int maxSize) {
+        return new IdentityCache<>(maxSize, Policy.LRU);
+    }
+
+    public static <K, V> IdentityCache<K, V> of(int maxSize, Policy policy) {
+        return new IdentityCache<>(maxSize, policy);
+    }
+
+    /**
+     * Returns the value cached for the key, or computes and caches it
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> compute) {
+        var entry = entries.get(new LookupKey(key));
+        if (entry != null) {
+            hits.increment();
+            if (lru && !entry.used) {
+                entry.used = true;
+            }
+            return entry.value == NULL ? null : (V) entry.value;
+        }
+        misses.increment();
+        var computed = compute.apply(key);
+        synchronized (order) {
+            expungeCollected();
+            var weakKey = new WeakKey(key, collected);
+            if (entries.putIfAbsent(weakKey, new Entry(computed == null ? NULL : computed)) == null) {
+                order.add(weakKey);
+                evict();
+            }
+        }
+        return computed;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        synchronized (order) {
+            expungeCollected();
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (order) {
+            entries.clear();
+            order.clear();
+            while (collected.poll() != null) {
+                // drop the references of the cleared entries
+            }
+        }
+    }
+
+    /**
+     * Removes the entries at the head of the insertion order until the cache fits, moving the used ones to the tail
+     */
+    private void evict() {
+        while (entries.size() > maxSize) {
+            var key = order.poll();
+            var entry = entries.get(key);
+            if (entry != null && entry.used) {
+                entry.used = false;
+                order.add(key);
+            } else if (entry != null) {
+                entries.remove(key);
+            }
+        }
+    }
+
+    private void expungeCollected() {
+        var expunged = false;
+        for (var key = collected.poll(); key != null; key = collected.poll()) {
+            expunged |= entries.remove(key) != null;
+        }
+        if (expunged && order.size() > 2 * maxSize) {
+            order.removeIf(key -> !entries.containsKey(key));
+        }
+    }
+
+    private static final class Entry {
+
+        final Object value;
+        volatile boolean used;
+
+        Entry(Object value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * A key that is equal to the keys referencing the same object
+     */
+    private interface Key {
+        Object referent();
+    }
+
+    private static boolean sameReferent(Key key, Object other) {
+        if (key == other) {
+            return true;
+        }
+        if (!(other instanceof Key)) {
+            return false;
+        }
+        var referent = key.referent();
+        return referent != null && referent == ((Key) other).referent();
+    }
+
+    private static final class WeakKey extends WeakReference<Object> implements Key {
+
+        private final int hash;
+
+        WeakKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public Object referent() {
+            return get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return sameReferent(this, other);
+        }
+    }
+
+    private static final class LookupKey implements Key {
+
+        private final Object referent;
+
+        LookupKey(Object referent) {
+            this.referent = referent;
+        }
+
+        @Override
+        public Object referent() {
+            return referent;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return sameReferent(this, other);
+        }
+    }
+}
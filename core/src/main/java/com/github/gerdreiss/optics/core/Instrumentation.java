@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import com.github.gerdreiss.optics.core.OpticsMetrics.Operation;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * The measurements of the instrumented optics. A disabled measurement costs a volatile read and a null check.
+ */
+final class Instrumentation {
+
+    static volatile OpticsMetrics installed;
+
+    private Instrumentation() {
+    }
+
+    static OpticsMetrics metrics(OpticsMetrics bound) {
+        return bound != null ? bound : installed;
+    }
+
+    /**
+     * Calls the optic and reports the call, if there are metrics to report it to. The size of the traversed collection
+     * is computed from the result after the call has been timed.
+     */
+    static <R> R time(
+            OpticsMetrics bound, String optic, Operation operation, Supplier<R> call, ToIntFunction<? super R> size) {
+        var metrics = metrics(bound);
+        if (metrics == null) {
+            return call.get();
+        }
+        var start = System.nanoTime();
+        var result = call.get();
+        var nanos = System.nanoTime() - start;
+        metrics.record(optic, operation, nanos, size.applyAsInt(result));
+        return result;
+    }
+
+    /**
+     * Calls an optic that does not focus on a collection, and reports the call with the size -1
+     */
+    static <R> R time(OpticsMetrics bound, String optic, Operation operation, Supplier<R> call) {
+        return time(bound, optic, operation, call, result -> -1);
+    }
+}
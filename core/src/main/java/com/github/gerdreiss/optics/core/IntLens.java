@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * A lens of an {@code int} property that reads and updates it without boxing
+ *
+ * @param <A> The object into whose property we want to view or update
+ */
+public class IntLens<A> extends IntView<A> {
+
+    /**
+     * Returns a copy of the target with the property set to the value
+     */
+    @FunctionalInterface
+    public interface Setter<A> {
+        A set(A target, int value);
+    }
+
+    private final Setter<A> fset;
+    private final boolean preservingIdentity;
+
+    IntLens(ToIntFunction<A> fget, Setter<A> fset) {
+        this(fget, fset, false);
+    }
+
+    IntLens(ToIntFunction<A> fget, Setter<A> fset, boolean preservingIdentity) {
+        super(fget);
+        this.fset = fset;
+        this.preservingIdentity = preservingIdentity;
+    }
+
+    IntLens(IntLens<A> lens, boolean preservingIdentity) {
+        super(lens);
+        this.fset = lens.fset;
+        this.preservingIdentity = preservingIdentity;
+    }
+
+    IntLens(IntLens<A> lens, String name, Boolean endsInTraversal) {
+        super(lens, name, endsInTraversal);
+        this.fset = lens.fset;
+        this.preservingIdentity = lens.preservingIdentity;
+    }
+
+    public static <A> IntLens<A> of(ToIntFunction<A> fget, Setter<A> fset) {
+        return new IntLens<>(fget, fset);
+    }
+
+    @Override
+    public IntLens<A> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    IntLens<A> renamed(String name, Boolean endsInTraversal) {
+        return new IntLens<>(this, name, endsInTraversal);
+    }
+
+    /**
+     * Returns a lens that does not rebuild the target if the new value equals the current one, but returns the target
+     * itself
+     */
+    public IntLens<A> preservingIdentity() {
+        return new IntLens<>(this, true);
+    }
+
+    boolean isPreservingIdentity() {
+        return preservingIdentity;
+    }
+
+    public A set(A target, int value) {
+        if (target == null) {
+            return null;
+        }
+        return preservingIdentity && get(target) == value ? target : fset.set(target, value);
+    }
+
+    public IntFunction<A> set(A target) {
+        return (int value) -> set(target, value);
+    }
+
+    public A modify(A target, IntUnaryOperator modifier) {
+        return target == null ? null : set(target, modifier.applyAsInt(get(target)));
+    }
+
+    public Lens<A, Integer> boxed() {
+        return rename(Lens.of((A a) -> get(a), (A a, Integer value) -> set(a, value)), name());
+    }
+
+    public <C> IntLens<C> compose(final Lens<C, A> that) {
+        return that.andThen(this);
+    }
+}
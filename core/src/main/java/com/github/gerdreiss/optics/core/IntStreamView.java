@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.OptionalInt;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * A view of a traversal of {@code int} properties that streams them without boxing
+ *
+ * @param <A> The object into whose properties we want to view
+ */
+public class IntStreamView<A> extends Optic implements Function<A, IntStream> {
+
+    private final Function<A, IntStream> fget;
+
+    IntStreamView(Function<A, IntStream> fget) {
+        this.fget = fget;
+    }
+
+    IntStreamView(IntStreamView<A> view, String name, Boolean endsInTraversal) {
+        super(name, endsInTraversal);
+        this.fget = view.fget;
+    }
+
+    public static <A> IntStreamView<A> of(final Function<A, IntStream> fget) {
+        return new IntStreamView<>(fget);
+    }
+
+    /**
+     * Returns a copy of this view with the given name, which also names the paths of the optics composed of it
+     */
+    public IntStreamView<A> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    IntStreamView<A> renamed(String name, Boolean endsInTraversal) {
+        return new IntStreamView<>(this, name, endsInTraversal);
+    }
+
+    @Override
+    boolean isTraversal() {
+        return true;
+    }
+
+    @Override
+    public IntStream apply(A a) {
+        return getStream(a);
+    }
+
+    public IntStream getStream(A a) {
+        return a == null ? IntStream.empty() : fget.apply(a);
+    }
+
+    public int sum(A a) {
+        return getStream(a).sum();
+    }
+
+    public OptionalInt min(A a) {
+        return getStream(a).min();
+    }
+
+    public OptionalInt max(A a) {
+        return getStream(a).max();
+    }
+
+    public <C> IntStreamView<C> compose(final View<C, A> that) {
+        return that.andThen(this);
+    }
+}
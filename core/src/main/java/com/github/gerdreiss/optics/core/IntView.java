@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.OptionalInt;
+import java.util.function.ToIntFunction;
+
+/**
+ * A view of an {@code int} property that reads it without boxing
+ *
+ * @param <A> The object into whose property we want to view
+ */
+public class IntView<A> extends Optic implements ToIntFunction<A> {
+
+    private final ToIntFunction<A> fget;
+
+    IntView(ToIntFunction<A> fget) {
+        this.fget = fget;
+    }
+
+    IntView(IntView<A> view) {
+        super(view);
+        this.fget = view.fget;
+    }
+
+    IntView(IntView<A> view, String name, Boolean endsInTraversal) {
+        super(name, endsInTraversal);
+        this.fget = view.fget;
+    }
+
+    public static <A> IntView<A> of(ToIntFunction<A> fget) {
+        return new IntView<>(fget);
+    }
+
+    /**
+     * Returns a copy of this view with the given name, which also names the paths of the optics composed of it
+     */
+    public IntView<A> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    IntView<A> renamed(String name, Boolean endsInTraversal) {
+        return new IntView<>(this, name, endsInTraversal);
+    }
+
+    @Override
+    public int applyAsInt(A a) {
+        return get(a);
+    }
+
+    /**
+     * Returns the value of the property, or 0 if the target is null
+     */
+    public int get(A a) {
+        return a == null ? 0 : fget.applyAsInt(a);
+    }
+
+    public int getOrElse(A a, int other) {
+        return a == null ? other : fget.applyAsInt(a);
+    }
+
+    public OptionalInt getOptional(A a) {
+        return a == null ? OptionalInt.empty() : OptionalInt.of(fget.applyAsInt(a));
+    }
+
+    public View<A, Integer> boxed() {
+        return rename(View.of((A a) -> fget.applyAsInt(a)), name());
+    }
+
+    public <C> IntView<C> compose(final View<C, A> that) {
+        return that.andThen(this);
+    }
+
+    public <C> IntStreamView<C> compose(final StreamView<C, A> that) {
+        return that.andThen(this);
+    }
+
+    public <C> IntStreamView<C> compose(final ListView<C, A> that) {
+        return that.andThen(this);
+    }
+}
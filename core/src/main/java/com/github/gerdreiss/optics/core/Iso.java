@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.function.Function;
+
+/**
+ * An isomorphism between two representations of the same data, e.g. a wire DTO and a domain record. As a lens, it sets
+ * the value by converting it back, without reading the target. A null value is not converted but set as null.
+ *
+ * <p>Composing a lens with an iso results in a single lens. The identity iso and the isos that merely cast are not
+ * composed at all: the optic they are composed with is returned as it is, so they do not cost an indirection.
+ *
+ * @param <S> The source representation
+ * @param <A> The target representation
+ */
+public class Iso<S, A> extends Lens<S, A> {
+
+    private static final Iso<Object, Object> IDENTITY = new Iso<>(Function.identity(), Function.identity(), true);
+
+    private final Function<S, A> fget;
+    private final Function<A, S> freverse;
+    private final boolean identity;
+
+    Iso(Function<S, A> fget, Function<A, S> freverse, boolean identity) {
+        super(fget, (S s, A a) -> a == null ? null : freverse.apply(a));
+        this.fget = fget;
+        this.freverse = freverse;
+        this.identity = identity;
+    }
+
+    Iso(Iso<S, A> iso, String name, Boolean endsInTraversal) {
+        super(iso, name, endsInTraversal);
+        this.fget = iso.fget;
+        this.freverse = iso.freverse;
+        this.identity = iso.identity;
+    }
+
+    public static <S, A> Iso<S, A> of(Function<S, A> get, Function<A, S> reverseGet) {
+        return new Iso<>(get, reverseGet, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> Iso<A, A> identity() {
+        return (Iso<A, A>) (Iso<?, ?>) IDENTITY;
+    }
+
+    /**
+     * Returns the iso between a type and a subtype that all its values are known to be of. It is composed like the
+     * identity iso, in which case the cast to the subtype is not checked.
+     */
+    public static <S, A extends S> Iso<S, A> narrowing(Class<A> type) {
+        return new Iso<>(type::cast, (A a) -> a, true);
+    }
+
+    /**
+     * Whether the optic is an iso that returns the values it is given, so that composing it can be skipped
+     */
+    static boolean isIdentity(Object optic) {
+        return optic instanceof Iso && ((Iso<?, ?>) optic).identity;
+    }
+
+    @Override
+    public Iso<S, A> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    Iso<S, A> renamed(String name, Boolean endsInTraversal) {
+        return new Iso<>(this, name, endsInTraversal);
+    }
+
+    public S reverseGet(A a) {
+        return a == null ? null : freverse.apply(a);
+    }
+
+    public Iso<A, S> reverse() {
+        return new Iso<>(freverse, fget, identity);
+    }
+
+    @Override
+    public S modify(S target, Function<A, A> modifier) {
+        return target == null ? null : reverseGet(modifier.apply(get(target)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <B> Iso<S, B> andThen(Iso<A, B> that) {
+        if (identity) {
+            return (Iso<S, B>) that;
+        }
+        if (that.identity) {
+            return (Iso<S, B>) this;
+        }
+        return path(new Iso<>((S s) -> that.get(get(s)), (B b) -> reverseGet(that.reverseGet(b)), false), this, that);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <B> Lens<S, B> andThen(Lens<A, B> that) {
+        if (that instanceof Iso) {
+            return andThen((Iso<A, B>) that);
+        }
+        if (identity) {
+            return (Lens<S, B>) that;
+        }
+        return path(new Lens<>(
+                (S s) -> that.get(get(s)),
+                (S s, B b) -> reverseGet(that.set(get(s), b)),
+                that.unchanged()), this, that);
+    }
+
+    public <B> Iso<B, A> compose(Iso<B, S> that) {
+        return that.andThen(this);
+    }
+}
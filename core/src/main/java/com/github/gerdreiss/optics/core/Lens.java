@@ -15,11 +15,14 @@
  */
 package com.github.gerdreiss.optics.core;
 
+import com.github.gerdreiss.optics.core.OpticsMetrics.Operation;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 
 /**
@@ -32,18 +35,135 @@ import java.util.function.Function;
 public class Lens<A, B> extends View<A, B> {
 
     private final BiFunction<A, B, A> fset;
+    private final BiPredicate<? super B, ? super B> unchanged;
 
     Lens(Function<A, B> fget, BiFunction<A, B, A> fset) {
+        this(fget, fset, null);
+    }
+
+    Lens(Function<A, B> fget, BiFunction<A, B, A> fset, BiPredicate<? super B, ? super B> unchanged) {
         super(fget);
         this.fset = fset;
+        this.unchanged = unchanged;
+    }
+
+    Lens(Lens<A, B> lens, BiPredicate<? super B, ? super B> unchanged) {
+        super(lens);
+        this.fset = lens.fset;
+        this.unchanged = unchanged;
+    }
+
+    Lens(Lens<A, B> lens, String name, Boolean endsInTraversal) {
+        super(lens, name, endsInTraversal);
+        this.fset = lens.fset;
+        this.unchanged = lens.unchanged;
     }
 
     public static <A, B> Lens<A, B> of(Function<A, B> fget, BiFunction<A, B, A> fset) {
         return new Lens<>(fget, fset);
     }
 
+    public static <A, B> Lens<A, B> of(String name, Function<A, B> fget, BiFunction<A, B, A> fset) {
+        return rename(new Lens<>(fget, fset), name);
+    }
+
+    /**
+     * Returns a copy of this lens with the given name, which also names the paths of the optics composed of it
+     */
+    @Override
+    public Lens<A, B> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    Lens<A, B> renamed(String name, Boolean endsInTraversal) {
+        return new Lens<>(this, name, endsInTraversal);
+    }
+
+    /**
+     * Returns a lens that does not rebuild the target if the new value is the same instance as the current one, but
+     * returns the target itself. Composed lenses focusing on the value of this lens preserve the identity of all the
+     * objects on the path to it.
+     */
+    public Lens<A, B> preservingIdentity() {
+        return preservingIdentity((b1, b2) -> b1 == b2);
+    }
+
+    /**
+     * Returns a lens that does not rebuild the target if the new value is unchanged according to the given predicate,
+     * e.g. {@code Objects::equals}, but returns the target itself. Composed lenses focusing on the value of this lens
+     * preserve the identity of all the objects on the path to it.
+     */
+    public Lens<A, B> preservingIdentity(BiPredicate<? super B, ? super B> unchanged) {
+        return new Lens<>(this, unchanged);
+    }
+
+    BiPredicate<? super B, ? super B> unchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Returns a lens that reports its calls to the installed {@link OpticsMetrics} under the given name. Lenses derived
+     * from it by composition report through it, other decorations of it are not instrumented.
+     */
+    public Lens<A, B> instrumented(String name) {
+        return instrumented(name, null);
+    }
+
+    /**
+     * Returns a lens that reports its calls to the given {@link OpticsMetrics} under the given name
+     */
+    public Lens<A, B> instrumented(String name, OpticsMetrics bound) {
+        var self = this;
+        return new Lens<>(this, unchanged) {
+            @Override
+            public B get(A a) {
+                return Instrumentation.time(bound, name, Operation.GET, () -> self.get(a));
+            }
+
+            @Override
+            public A set(A target, B value) {
+                return Instrumentation.time(bound, name, Operation.SET, () -> self.set(target, value));
+            }
+
+            @Override
+            A rebuild(A target, B value) {
+                return Instrumentation.time(bound, name, Operation.SET, () -> self.rebuild(target, value));
+            }
+
+            @Override
+            public A modify(A target, Function<B, B> modifier) {
+                return Instrumentation.time(bound, name, Operation.MODIFY, () -> self.modify(target, modifier));
+            }
+        };
+    }
+
+    /**
+     * Sets the value without checking the target for null or the value for changes
+     */
+    A rebuild(A target, B value) {
+        return fset.apply(target, value);
+    }
+
+    /**
+     * Sets the value the update returns for the current value, or returns the target if it is the current value itself
+     */
+    A rebuildIfChanged(A target, Function<B, B> update) {
+        if (target == null) {
+            return null;
+        }
+        var value = get(target);
+        var updated = update.apply(value);
+        return updated == value ? target : rebuild(target, updated);
+    }
+
     public A set(A target, B value) {
-        return target == null ? null : fset.apply(target, value);
+        var event = OpticEvents.start();
+        var result = target == null || unchanged != null && unchanged.test(get(target), value)
+                ? target
+                : rebuild(target, value);
+        OpticEvents.end(event, this, "Lens.set", -1);
+        return result;
     }
 
     public Function<B, A> set(A target) {
@@ -51,35 +171,139 @@ public class Lens<A, B> extends View<A, B> {
     }
 
     public A modify(A target, Function<B, B> modifier) {
-        return set(target, modifier.apply(get(target)));
+        var event = OpticEvents.start();
+        var result = modifyValue(target, modifier);
+        OpticEvents.end(event, this, "Lens.modify", -1);
+        return result;
+    }
+
+    private A modifyValue(A target, Function<B, B> modifier) {
+        if (target == null) {
+            return null;
+        }
+        var value = get(target);
+        var modified = modifier.apply(value);
+        return unchanged != null && unchanged.test(value, modified) ? target : rebuild(target, modified);
+    }
+
+    /**
+     * Sets the values on the targets pairwise, and returns the updated targets in order
+     */
+    public List<A> setAll(List<A> targets, List<B> values) {
+        return setAll(targets, values, ListView.SEQUENTIAL);
+    }
+
+    /**
+     * Sets the values on the targets pairwise, and returns the updated targets in order. Batches of at least the given
+     * size are updated in parallel.
+     */
+    public List<A> setAll(List<A> targets, List<B> values, int parallelThreshold) {
+        return Batches.zipMap(targets, values, this::set, parallelThreshold);
+    }
+
+    /**
+     * Modifies the value of each target, and returns the updated targets in order
+     */
+    public List<A> modifyAll(List<A> targets, Function<B, B> modifier) {
+        return modifyAll(targets, modifier, ListView.SEQUENTIAL);
+    }
+
+    public List<A> modifyAll(List<A> targets, Function<B, B> modifier, int parallelThreshold) {
+        return Batches.map(targets, (A a) -> modify(a, modifier), parallelThreshold);
     }
 
     public <C> Lens<A, C> andThen(Lens<B, C> that) {
-        return Lens.of((A a) -> that.get(get(a)), (A a, C c) -> set(a, that.set(get(a), c)));
+        return path(this, that, () -> {
+            if (that instanceof Iso && unchanged == null) {
+                var iso = (Iso<B, C>) that;
+                return new Lens<>((A a) -> iso.get(get(a)), (A a, C c) -> set(a, iso.reverseGet(c)));
+            }
+            return ComposedLens.of(this, that);
+        });
     }
 
     public <C> OptionalLens<A, C> andThen(OptionalLens<B, C> that) {
-        return OptionalLens.of(
+        return path(new OptionalLens<>(
                 (A a) -> that.getOptional(get(a)),
-                (A a, Optional<C> maybeC) -> set(a, that.set(get(a), maybeC)));
+                that.unchanged() == null
+                        ? (A a, Optional<C> maybeC) -> modify(a, b -> that.set(b, maybeC))
+                        : (A a, Optional<C> maybeC) -> rebuildIfChanged(a, b -> that.set(b, maybeC)),
+                that.unchanged()), this, that);
     }
 
     public <C> ListLens<A, C> andThen(ListLens<B, C> that) {
-        return ListLens.of(
+        return path(new ListLens<>(
                 (A a) -> that.getList(get(a)),
-                (A a, List<C> cs) -> set(a, that.set(get(a), cs)));
+                that.unchanged() == null
+                        ? (A a, List<C> cs) -> modify(a, b -> that.set(b, cs))
+                        : (A a, List<C> cs) -> rebuildIfChanged(a, b -> that.set(b, cs)),
+                that.unchanged(),
+                that.parallelThreshold()), this, that);
     }
 
     public <C> SetLens<A, C> andThen(SetLens<B, C> that) {
-        return SetLens.of(
+        return path(new SetLens<>(
                 (A a) -> that.getSet(get(a)),
-                (A a, Set<C> cs) -> set(a, that.set(get(a), cs)));
+                that.unchanged() == null
+                        ? (A a, Set<C> cs) -> modify(a, b -> that.set(b, cs))
+                        : (A a, Set<C> cs) -> rebuildIfChanged(a, b -> that.set(b, cs)),
+                that.unchanged()), this, that);
     }
 
     public <C> QueueLens<A, C> andThen(QueueLens<B, C> that) {
-        return QueueLens.of(
+        return path(new QueueLens<>(
                 (A a) -> that.getQueue(get(a)),
-                (A a, Queue<C> cs) -> set(a, that.set(get(a), cs)));
+                that.unchanged() == null
+                        ? (A a, Queue<C> cs) -> modify(a, b -> that.set(b, cs))
+                        : (A a, Queue<C> cs) -> rebuildIfChanged(a, b -> that.set(b, cs)),
+                that.unchanged()), this, that);
+    }
+
+    /**
+     * Returns a lens focusing on the map of the value, which rebuilds the target only if the map lens changes the value
+     */
+    public <K, V> MapLens<A, K, V> andThen(MapLens<B, K, V> that) {
+        return path(new MapLens<>(
+                (A a) -> that.getMap(get(a)),
+                (A a, Map<K, V> map) -> rebuildIfChanged(a, b -> that.set(b, map))), this, that);
+    }
+
+    public IntLens<A> andThen(IntLens<B> that) {
+        return path(new IntLens<>(
+                (A a) -> that.get(get(a)),
+                that.isPreservingIdentity()
+                        ? (A a, int value) -> rebuildIfChanged(a, b -> that.set(b, value))
+                        : (A a, int value) -> modify(a, b -> that.set(b, value)),
+                that.isPreservingIdentity()), this, that);
+    }
+
+    public LongLens<A> andThen(LongLens<B> that) {
+        return path(new LongLens<>(
+                (A a) -> that.get(get(a)),
+                that.isPreservingIdentity()
+                        ? (A a, long value) -> rebuildIfChanged(a, b -> that.set(b, value))
+                        : (A a, long value) -> modify(a, b -> that.set(b, value)),
+                that.isPreservingIdentity()), this, that);
+    }
+
+    public DoubleLens<A> andThen(DoubleLens<B> that) {
+        return path(new DoubleLens<>(
+                (A a) -> that.get(get(a)),
+                that.isPreservingIdentity()
+                        ? (A a, double value) -> rebuildIfChanged(a, b -> that.set(b, value))
+                        : (A a, double value) -> modify(a, b -> that.set(b, value)),
+                that.isPreservingIdentity()), this, that);
+    }
+
+    /**
+     * Returns a lens focusing on a case of the value, which sets the case only if the value is of the case
+     */
+    public <C> OptionalLens<A, C> andThen(Prism<B, C> that) {
+        return path(new OptionalLens<>(
+                (A a) -> that.getOption(get(a)),
+                (A a, Optional<C> maybeC) -> maybeC.isPresent()
+                        ? rebuildIfChanged(a, b -> that.set(b, maybeC.get()))
+                        : a), this, that);
     }
 
     public <C> Lens<C, B> compose(Lens<C, A> that) {
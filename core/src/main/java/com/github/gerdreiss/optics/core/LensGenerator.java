@@ -0,0 +1,213 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Generates lenses for the components of records. The getter of a generated lens invokes the component accessor, the
+ * setter invokes the canonical constructor with the new value and the other components of the target, and both are
+ * spun as hidden classes holding their method handle as a constant, so that a record update through a generated lens
+ * costs the same as the hand-written {@code new Rec(...)}. A path of components is flattened into one getter and one
+ * setter for the whole path, which get every intermediate record exactly once.
+ *
+ * <p>Generating a lens defines new classes, so generated lenses should be created once and kept in constants.
+ */
+public final class LensGenerator {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodHandle IS_NULL;
+    private static final MethodHandle NULL_TARGET;
+
+    static {
+        try {
+            IS_NULL = LOOKUP.findStatic(Objects.class, "isNull", methodType(boolean.class, Object.class));
+            NULL_TARGET = MethodHandles.dropArguments(MethodHandles.identity(Object.class), 1, Object.class);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final byte[] GETTER_TEMPLATE = bytesOf(GetterTemplate.class);
+    private static final byte[] SETTER_TEMPLATE = bytesOf(SetterTemplate.class);
+
+    private LensGenerator() {
+    }
+
+    /**
+     * Generates the lens of a record component. The record, its accessors and its canonical constructor are accessed
+     * privately, which requires the package of the record to be open to this library.
+     */
+    public static <R extends Record, V> Lens<R, V> of(Class<R> type, String component) {
+        return path(type, component);
+    }
+
+    /**
+     * Generates the lens of a record component, accessing the record with the given lookup
+     */
+    public static <R extends Record, V> Lens<R, V> of(Lookup lookup, Class<R> type, String component) {
+        return path(lookup, type, component);
+    }
+
+    /**
+     * Generates the lens of a path of record components, e.g. {@code path(Order.class, "customer", "address", "zip")}.
+     * All but the last component must be records. The records, their accessors and canonical constructors are accessed
+     * privately, which requires their packages to be open to this library.
+     */
+    public static <R extends Record, V> Lens<R, V> path(Class<R> type, String... components) {
+        return path(LensGenerator::privateLookup, type, components);
+    }
+
+    /**
+     * Generates the lens of a path of record components, accessing the records with the given lookup
+     */
+    public static <R extends Record, V> Lens<R, V> path(Lookup lookup, Class<R> type, String... components) {
+        return path(recordType -> lookup, type, components);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R extends Record, V> Lens<R, V> path(
+            Function<Class<?>, Lookup> lookups, Class<?> type, String... components) {
+        if (components.length == 0) {
+            throw new IllegalArgumentException("At least one record component is required");
+        }
+        var getters = new MethodHandle[components.length];
+        var setters = new MethodHandle[components.length];
+        var current = type;
+        for (int i = 0; i < components.length; i++) {
+            if (!current.isRecord()) {
+                throw new IllegalArgumentException(current.getName() + " is not a record");
+            }
+            var lookup = lookups.apply(current);
+            var recordComponents = current.getRecordComponents();
+            var index = indexOf(recordComponents, components[i], current);
+            var accessors = accessors(lookup, recordComponents);
+            getters[i] = nullSafe(accessors[index].asType(methodType(Object.class, Object.class)));
+            setters[i] = nullSafe(wither(lookup, current, recordComponents, accessors, index)
+                    .asType(methodType(Object.class, Object.class, Object.class)));
+            current = recordComponents[index].getType();
+        }
+
+        var getter = getters[0];
+        for (int i = 1; i < getters.length; i++) {
+            getter = MethodHandles.filterReturnValue(getter, getters[i]);
+        }
+        var setter = setters[setters.length - 1];
+        for (int i = setters.length - 2; i >= 0; i--) {
+            // (x, v) -> setters[i](x, setter(getters[i](x), v))
+            var nested = MethodHandles.filterArguments(setter, 0, getters[i]);
+            var collected = MethodHandles.collectArguments(setters[i], 1, nested);
+            setter = MethodHandles.permuteArguments(
+                    collected, methodType(Object.class, Object.class, Object.class), 0, 0, 1);
+        }
+
+        return Lens.of(
+                String.join(".", components),
+                (Function<R, V>) spin(GETTER_TEMPLATE, getter),
+                (BiFunction<R, V, R>) spin(SETTER_TEMPLATE, setter));
+    }
+
+    private static int indexOf(RecordComponent[] recordComponents, String component, Class<?> type) {
+        for (int i = 0; i < recordComponents.length; i++) {
+            if (recordComponents[i].getName().equals(component)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(type.getName() + " has no record component " + component);
+    }
+
+    private static MethodHandle[] accessors(Lookup lookup, RecordComponent[] recordComponents) {
+        var accessors = new MethodHandle[recordComponents.length];
+        try {
+            for (int i = 0; i < recordComponents.length; i++) {
+                accessors[i] = lookup.unreflect(recordComponents[i].getAccessor());
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return accessors;
+    }
+
+    /**
+     * (record, value) -> new Record(record.c0(), ..., value, ..., record.cn())
+     */
+    private static MethodHandle wither(
+            Lookup lookup, Class<?> type, RecordComponent[] recordComponents, MethodHandle[] accessors, int index) {
+        var parameterTypes = Arrays.stream(recordComponents).map(RecordComponent::getType).toArray(Class<?>[]::new);
+        MethodHandle constructor;
+        try {
+            constructor = lookup.findConstructor(type, methodType(void.class, parameterTypes));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+        var filters = accessors.clone();
+        filters[index] = null;
+        var reorder = new int[recordComponents.length];
+        reorder[index] = 1;
+        return MethodHandles.permuteArguments(
+                MethodHandles.filterArguments(constructor, 0, filters),
+                methodType(type, type, parameterTypes[index]),
+                reorder);
+    }
+
+    /**
+     * Returns null for a null target instead of invoking the handle, the way views and lenses do
+     */
+    private static MethodHandle nullSafe(MethodHandle handle) {
+        var isNull = MethodHandles.dropArguments(IS_NULL, 1, handle.type().dropParameterTypes(0, 1).parameterList());
+        var fallback = handle.type().parameterCount() == 1 ? MethodHandles.identity(Object.class) : NULL_TARGET;
+        return MethodHandles.guardWithTest(isNull, fallback, handle);
+    }
+
+    private static Object spin(byte[] template, MethodHandle handle) {
+        try {
+            var hidden = LOOKUP.defineHiddenClassWithClassData(template, handle, true);
+            return hidden.findConstructor(hidden.lookupClass(), methodType(void.class)).invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to generate lens", t);
+        }
+    }
+
+    private static Lookup privateLookup(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, LOOKUP);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static byte[] bytesOf(Class<?> template) {
+        try (var in = template.getResourceAsStream(template.getSimpleName() + ".class")) {
+            return Objects.requireNonNull(in, template.getName()).readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
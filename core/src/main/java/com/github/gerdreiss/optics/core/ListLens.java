@@ -1,19 +1,58 @@
 package com.github.gerdreiss.optics.core;
 
+import static com.github.gerdreiss.optics.core.util.IterableUtils.allMatch;
 import static com.github.gerdreiss.optics.core.util.IterableUtils.zipStream;
 import static java.util.stream.Collectors.toList;
 
+import com.github.gerdreiss.optics.core.OpticsMetrics.Operation;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 public class ListLens<A, B> extends ListView<A, B> {
 
     private final BiFunction<A, List<B>, A> fset;
+    private final BiPredicate<? super B, ? super B> unchanged;
 
     ListLens(Function<A, List<B>> fget, BiFunction<A, List<B>, A> fset) {
-        super(fget);
+        this(fget, fset, null);
+    }
+
+    ListLens(
+            Function<A, List<B>> fget,
+            BiFunction<A, List<B>, A> fset,
+            BiPredicate<? super B, ? super B> unchanged) {
+        this(fget, fset, unchanged, SEQUENTIAL);
+    }
+
+    ListLens(
+            Function<A, List<B>> fget,
+            BiFunction<A, List<B>, A> fset,
+            BiPredicate<? super B, ? super B> unchanged,
+            int parallelThreshold) {
+        super(fget, parallelThreshold);
         this.fset = fset;
+        this.unchanged = unchanged;
+    }
+
+    ListLens(ListLens<A, B> lens, BiPredicate<? super B, ? super B> unchanged) {
+        this(lens, unchanged, lens.parallelThreshold());
+    }
+
+    ListLens(ListLens<A, B> lens, BiPredicate<? super B, ? super B> unchanged, int parallelThreshold) {
+        super(lens, parallelThreshold);
+        this.fset = lens.fset;
+        this.unchanged = unchanged;
+    }
+
+    ListLens(ListLens<A, B> lens, String name, Boolean endsInTraversal) {
+        super(lens, name, endsInTraversal);
+        this.fset = lens.fset;
+        this.unchanged = lens.unchanged;
     }
 
     public static <A, B> ListLens<A, B> of(
@@ -21,12 +60,120 @@ public class ListLens<A, B> extends ListView<A, B> {
         return new ListLens<>(fget, fset);
     }
 
+    /**
+     * Returns a lens over a {@link PersistentVector}, which updates single elements in O(log n) time
+     */
+    public static <A, B> VectorLens<A, B> ofVector(
+            Function<A, PersistentVector<B>> fget, BiFunction<A, PersistentVector<B>, A> fset) {
+        return new VectorLens<>(fget, fset, null);
+    }
+
+    @Override
+    public ListLens<A, B> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    ListLens<A, B> renamed(String name, Boolean endsInTraversal) {
+        return new ListLens<>(this, name, endsInTraversal);
+    }
+
+    /**
+     * Returns a lens that does not rebuild the target if the new values are the same instances as the current ones,
+     * but returns the target itself. Modifying the values returns the target if the modifier returns each value itself.
+     */
+    public ListLens<A, B> preservingIdentity() {
+        return preservingIdentity((b1, b2) -> b1 == b2);
+    }
+
+    /**
+     * Returns a lens that does not rebuild the target if the new values are unchanged according to the given
+     * predicate, but returns the target itself
+     */
+    public ListLens<A, B> preservingIdentity(BiPredicate<? super B, ? super B> unchanged) {
+        return new ListLens<>(this, unchanged);
+    }
+
+    BiPredicate<? super B, ? super B> unchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Returns a lens that reports its calls to the installed {@link OpticsMetrics} under the given name. Lenses derived
+     * from it by composition report through it, other decorations of it are not instrumented.
+     */
+    public ListLens<A, B> instrumented(String name) {
+        return instrumented(name, null);
+    }
+
+    /**
+     * Returns a lens that reports its calls to the given {@link OpticsMetrics} under the given name
+     */
+    public ListLens<A, B> instrumented(String name, OpticsMetrics bound) {
+        var self = this;
+        return new ListLens<>(this, unchanged) {
+            @Override
+            public List<B> getList(A a) {
+                return Instrumentation.time(bound, name, Operation.GET, () -> self.getList(a), result -> result.size());
+            }
+
+            @Override
+            public A set(A target, List<B> values) {
+                return Instrumentation.time(
+                        bound,
+                        name,
+                        Operation.SET,
+                        () -> self.set(target, values),
+                        result -> values == null ? -1 : values.size());
+            }
+
+            @Override
+            A rebuild(A target, List<B> values) {
+                return Instrumentation.time(
+                        bound,
+                        name,
+                        Operation.SET,
+                        () -> self.rebuild(target, values),
+                        result -> values == null ? -1 : values.size());
+            }
+
+            @Override
+            public A modify(A target, Function<B, B> modifier) {
+                return Instrumentation.time(
+                        bound,
+                        name,
+                        Operation.MODIFY,
+                        () -> self.modify(target, modifier),
+                        result -> self.getList(target).size());
+            }
+        };
+    }
+
+    /**
+     * Sets the values without checking the target for null or the values for changes
+     */
+    A rebuild(A target, List<B> values) {
+        return fset.apply(target, values);
+    }
+
+    /**
+     * Returns a lens that traverses lists of at least the given size in parallel when it modifies them or when the
+     * lenses composed after it get or set them. The order of the list is kept.
+     */
+    @Override
+    public ListLens<A, B> parallel(int threshold) {
+        return new ListLens<>(this, unchanged, checkThreshold(threshold));
+    }
+
     public A set(A target, List<B> values) {
-        return target == null ? null : fset.apply(target, values);
+        if (target == null) {
+            return null;
+        }
+        return unchanged != null && isUnchanged(getList(target), values) ? target : rebuild(target, values);
     }
 
     public A set(A target, B value) {
-        return target == null ? null : fset.apply(target, List.of(value));
+        return target == null ? null : set(target, List.of(value));
     }
 
     public Function<List<B>, A> set(A target) {
@@ -34,22 +181,196 @@ public class ListLens<A, B> extends ListView<A, B> {
     }
 
     public A modify(A target, Function<B, B> modifier) {
-        return set(target, getList(target).stream().map(modifier).collect(toList()));
+        if (target == null) {
+            return null;
+        }
+        var event = OpticEvents.start();
+        var values = getList(target);
+        var modified = stream(values).map(modifier).collect(toList());
+        var result = unchanged != null && isUnchanged(values, modified) ? target : rebuild(target, modified);
+        OpticEvents.end(event, this, "ListLens.modify", values.size());
+        return result;
+    }
+
+    /**
+     * Modifies the values of each target, and returns the updated targets in order
+     */
+    public List<A> modifyAll(List<A> targets, Function<B, B> modifier) {
+        return modifyAll(targets, modifier, SEQUENTIAL);
+    }
+
+    /**
+     * Modifies the values of each target, and returns the updated targets in order. Batches of at least the given size
+     * are updated in parallel, one target per task.
+     */
+    public List<A> modifyAll(List<A> targets, Function<B, B> modifier, int parallelThreshold) {
+        return Batches.map(targets, (A a) -> modify(a, modifier), parallelThreshold);
+    }
+
+    /**
+     * Modifies the value at the given index, or returns the target if the index is out of bounds. The list is copied
+     * once, or updated in O(log n) time if it is a {@link PersistentVector}. The other values are not traversed.
+     */
+    public A modifyAt(A target, int index, Function<B, B> modifier) {
+        if (target == null) {
+            return null;
+        }
+        var values = getList(target);
+        if (index < 0 || index >= values.size()) {
+            return target;
+        }
+        var value = elementAt(values, index);
+        var modified = modifier.apply(value);
+        if (unchanged != null && unchanged.test(value, modified)) {
+            return target;
+        }
+        return rebuild(target, replaceAt(values, index, modified, false));
+    }
+
+    /**
+     * Modifies the values matching the given predicate. The list is copied once, on the first change, and the target is
+     * returned as is if no value matches.
+     */
+    public A modifyWhere(A target, Predicate<? super B> predicate, Function<B, B> modifier) {
+        return modifyMatching(target, predicate, modifier, false);
+    }
+
+    /**
+     * Modifies the first value matching the given predicate, or returns the target if no value matches
+     */
+    public A modifyFirst(A target, Predicate<? super B> predicate, Function<B, B> modifier) {
+        return modifyMatching(target, predicate, modifier, true);
+    }
+
+    private A modifyMatching(A target, Predicate<? super B> predicate, Function<B, B> modifier, boolean firstOnly) {
+        if (target == null) {
+            return null;
+        }
+        var values = getList(target);
+        List<B> updated = null;
+        for (var iterator = values.listIterator(); iterator.hasNext(); ) {
+            var index = iterator.nextIndex();
+            var value = iterator.next();
+            if (predicate.test(value)) {
+                var modified = modifier.apply(value);
+                if (unchanged == null || !unchanged.test(value, modified)) {
+                    updated = updated == null
+                            ? replaceAt(values, index, modified, false)
+                            : replaceAt(updated, index, modified, true);
+                }
+                if (firstOnly) {
+                    break;
+                }
+            }
+        }
+        return updated == null ? target : rebuild(target, updated);
+    }
+
+    private boolean isUnchanged(List<B> values, List<B> updated) {
+        return values == updated || allMatch(values, updated, unchanged);
+    }
+
+    /**
+     * Sets the values the update returns for the current values, or returns the target if the update returns each
+     * current value itself
+     */
+    A rebuildIfChanged(A target, Function<List<B>, List<B>> update) {
+        if (target == null) {
+            return null;
+        }
+        var values = getList(target);
+        var updated = update.apply(values);
+        return allMatch(values, updated, (b1, b2) -> b1 == b2) ? target : rebuild(target, updated);
+    }
+
+    /**
+     * Returns a lens on the element at the given index. Its getter returns null if the index is out of bounds, and its
+     * setter returns the target unchanged. Setting an element copies the list once without traversing it, or updates a
+     * {@link PersistentVector} in O(log n) time.
+     */
+    public Lens<A, B> at(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException(Integer.toString(index));
+        }
+        return new Lens<>(
+                (A a) -> {
+                    var values = getList(a);
+                    return index < values.size() ? elementAt(values, index) : null;
+                },
+                (A a, B b) -> {
+                    var values = getList(a);
+                    if (index >= values.size()) {
+                        return a;
+                    }
+                    return rebuild(a, replaceAt(values, index, b, false));
+                },
+                unchanged);
+    }
+
+    /**
+     * Replaces the value at the given index. A {@link PersistentVector} is updated in O(log n) time, other lists are
+     * copied unless they are a copy already.
+     */
+    private static <B> List<B> replaceAt(List<B> values, int index, B value, boolean copied) {
+        if (values instanceof PersistentVector) {
+            return ((PersistentVector<B>) values).with(index, value);
+        }
+        var updated = copied ? values : new ArrayList<>(values);
+        updated.set(index, value);
+        return updated;
     }
 
     public <C> ListLens<A, C> andThen(Lens<B, C> that) {
-        return ListLens.of(
-                (A a) -> getList(a).stream().map(that::get).collect(toList()),
-                (A a, List<C> cs) -> set(a, zipStream(getList(a), cs)
-                        .map(entry -> that.set(entry.getKey(), entry.getValue()))
-                        .collect(toList()))
-        );
+        return path(this, that, () -> new ListLens<>(
+                (A a) -> getStream(a).map(that::get).collect(toList()),
+                that.unchanged() == null
+                        ? (A a, List<C> cs) -> {
+                            var bs = getList(a);
+                            return set(a, zipStream(bs, cs, bs.size() >= parallelThreshold())
+                                    .map(entry -> that.set(entry.getKey(), entry.getValue()))
+                                    .collect(toList()));
+                        }
+                        : (A a, List<C> cs) -> rebuildIfChanged(a, bs -> zipStream(
+                                        bs, cs, bs.size() >= parallelThreshold())
+                                .map(entry -> that.set(entry.getKey(), entry.getValue()))
+                                .collect(toList())),
+                that.unchanged(),
+                parallelThreshold()));
     }
 
     public <C> ListLens<A, C> andThen(ListLens<B, C> that) {
-        return ListLens.of(
-                (A a) -> getList(a).stream().flatMap(b -> that.getList(b).stream()).collect(toList()),
-                (A a, List<C> cs) -> set(a, getList(a).stream().map(b -> that.set(b, cs)).collect(toList())));
+        return path(new ListLens<>(
+                (A a) -> getStream(a).flatMap(b -> that.getList(b).stream()).collect(toList()),
+                that.unchanged() == null
+                        ? (A a, List<C> cs) -> set(a, getStream(a).map(b -> that.set(b, cs)).collect(toList()))
+                        : (A a, List<C> cs) -> rebuildIfChanged(a, bs -> stream(bs)
+                                .map(b -> that.set(b, cs))
+                                .collect(toList())),
+                that.unchanged(),
+                Math.min(parallelThreshold(), that.parallelThreshold())), this, that);
+    }
+
+    /**
+     * Returns a lens focusing on the values of the list that are of a case. Setting the values replaces the values of
+     * the case in order, leaving the values that are not of the case and the values for which none is given as they
+     * are.
+     */
+    public <C> ListLens<A, C> andThen(Prism<B, C> that) {
+        return path(new ListLens<>(
+                (A a) -> getStream(a).map(that::getOrNull).filter(Objects::nonNull).collect(toList()),
+                (A a, List<C> cs) -> rebuildIfChanged(a, bs -> {
+                    var values = cs.iterator();
+                    var replaced = new ArrayList<B>(bs.size());
+                    var changed = false;
+                    for (var b : bs) {
+                        var updated = values.hasNext() && that.matches(b) ? that.set(b, values.next()) : b;
+                        changed |= updated != b;
+                        replaced.add(updated);
+                    }
+                    return changed ? replaced : bs;
+                }),
+                null,
+                parallelThreshold()), this, that);
     }
 
     public <C> ListLens<C, B> compose(Lens<C, A> that) {
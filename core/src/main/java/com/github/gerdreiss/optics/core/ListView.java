@@ -17,25 +17,92 @@ package com.github.gerdreiss.optics.core;
 
 import static java.util.stream.Collectors.toList;
 
+import com.github.gerdreiss.optics.core.OpticsMetrics.Operation;
+import com.github.gerdreiss.optics.core.util.IterableUtils;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-public class ListView<A, B> implements Function<A, List<B>> {
+public class ListView<A, B> extends Optic implements Function<A, List<B>> {
+
+    static final int SEQUENTIAL = Integer.MAX_VALUE;
 
     private final Function<A, List<B>> fget;
+    private final int parallelThreshold;
 
     ListView(Function<A, List<B>> fget) {
+        this(fget, SEQUENTIAL);
+    }
+
+    ListView(Function<A, List<B>> fget, int parallelThreshold) {
         this.fget = fget;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    ListView(ListView<A, B> view) {
+        this(view, view.parallelThreshold);
+    }
+
+    ListView(ListView<A, B> view, int parallelThreshold) {
+        super(view);
+        this.fget = view.fget;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    ListView(ListView<A, B> view, String name, Boolean endsInTraversal) {
+        super(name, endsInTraversal);
+        this.fget = view.fget;
+        this.parallelThreshold = view.parallelThreshold;
     }
 
     public static <A, B> ListView<A, B> of(final Function<A, List<B>> fget) {
         return new ListView<>(fget);
     }
 
+    /**
+     * Returns a copy of this view with the given name, which also names the paths of the optics composed of it
+     */
+    public ListView<A, B> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    ListView<A, B> renamed(String name, Boolean endsInTraversal) {
+        return new ListView<>(this, name, endsInTraversal);
+    }
+
+    @Override
+    boolean isTraversal() {
+        return true;
+    }
+
+    /**
+     * Returns a view that traverses lists of at least the given size in parallel, on the common fork-join pool. The
+     * views composed after it inherit the threshold. Results keep the order of the list.
+     */
+    public ListView<A, B> parallel(int threshold) {
+        return new ListView<>(this, checkThreshold(threshold));
+    }
+
+    static int checkThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException(Integer.toString(threshold));
+        }
+        return threshold;
+    }
+
+    int parallelThreshold() {
+        return parallelThreshold;
+    }
+
+    Stream<B> stream(List<B> list) {
+        return list.size() >= parallelThreshold ? list.parallelStream() : list.stream();
+    }
+
     @Override
     public List<B> apply(A a) {
         return getList(a);
@@ -46,19 +113,41 @@ public class ListView<A, B> implements Function<A, List<B>> {
     }
 
     public Stream<B> getStream(A a) {
-        return a == null ? Stream.empty() : fget.apply(a).stream();
+        return stream(getList(a));
     }
 
     public Optional<B> getFirst(A a) {
-        return getStream(a).findFirst();
+        var list = getList(a);
+        return list.isEmpty() ? Optional.empty() : Optional.of(list.get(0));
     }
 
+    /**
+     * Returns the last element in constant time for random access lists, and by iterating the list backwards otherwise
+     */
     public Optional<B> getLast(A a) {
-        return getStream(a).reduce((first, second) -> second);
+        var list = getList(a);
+        if (list.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(list instanceof RandomAccess
+                ? list.get(list.size() - 1)
+                : list.listIterator(list.size()).previous());
+    }
+
+    /**
+     * Returns the element at the given index in constant time for random access lists, and by iterating the list from
+     * the nearer end otherwise
+     */
+    public Optional<B> getAt(A a, int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException(Integer.toString(n));
+        }
+        var list = getList(a);
+        return n < list.size() ? Optional.of(elementAt(list, n)) : Optional.empty();
     }
 
-    public Optional<B> getAt(A a, int n) {
-        return getStream(a).skip(n).findFirst();
+    static <B> B elementAt(List<B> list, int n) {
+        return list instanceof RandomAccess ? list.get(n) : list.listIterator(n).next();
     }
 
     public List<B> findAll(A a, Predicate<B> predicate) {
@@ -66,21 +155,76 @@ public class ListView<A, B> implements Function<A, List<B>> {
     }
 
     public Optional<B> findFirst(A a, Predicate<B> predicate) {
-        return findAll(a, predicate).stream().findFirst();
+        return IterableUtils.findFirst(getList(a), predicate);
+    }
+
+    public Optional<B> findAny(A a, Predicate<B> predicate) {
+        return getStream(a).filter(predicate).findAny();
+    }
+
+    public boolean exists(A a, Predicate<B> predicate) {
+        return IterableUtils.exists(getList(a), predicate);
+    }
+
+    public boolean forAll(A a, Predicate<B> predicate) {
+        return IterableUtils.forAll(getList(a), predicate);
+    }
+
+    public long count(A a, Predicate<B> predicate) {
+        return IterableUtils.count(getList(a), predicate);
+    }
+
+    /**
+     * Returns a view that reports its calls to the installed {@link OpticsMetrics} under the given name. Views derived
+     * from it by composition report through it, other decorations of it are not instrumented.
+     */
+    public ListView<A, B> instrumented(String name) {
+        return instrumented(name, null);
+    }
+
+    /**
+     * Returns a view that reports its calls to the given {@link OpticsMetrics} under the given name
+     */
+    public ListView<A, B> instrumented(String name, OpticsMetrics bound) {
+        var self = this;
+        return new ListView<>(this) {
+            @Override
+            public List<B> getList(A a) {
+                return Instrumentation.time(bound, name, Operation.GET, () -> self.getList(a), result -> result.size());
+            }
+        };
     }
 
     public <C> ListView<A, C> andThen(final View<B, C> that) {
-        return ListView.of((A a) -> getList(a).stream().map(that::get).collect(toList()));
+        return path(
+                this,
+                that,
+                () -> new ListView<>((A a) -> getStream(a).map(that::get).collect(toList()), parallelThreshold));
     }
 
     public <C> ListView<A, Optional<C>> andThen(final OptionalView<B, C> that) {
-        return ListView.of((A a) -> getList(a).stream().map(that::getOptional).collect(toList()));
+        return path(
+                new ListView<>((A a) -> getStream(a).map(that::getOptional).collect(toList()), parallelThreshold),
+                this,
+                that);
     }
 
     public <C> ListView<A, C> andThen(final ListView<B, C> that) {
-        return ListView.of((A a) -> getList(a).stream()
-                .flatMap(b -> that.getList(b).stream())
-                .collect(toList()));
+        return path(new ListView<>(
+                (A a) -> getStream(a).flatMap(b -> that.getList(b).stream()).collect(toList()),
+                Math.min(parallelThreshold, that.parallelThreshold)), this, that);
+    }
+
+    public IntStreamView<A> andThen(final IntView<B> that) {
+        return path(new IntStreamView<>((A a) -> getStream(a).mapToInt(that::get)), this, that);
+    }
+
+    public LongStreamView<A> andThen(final LongView<B> that) {
+        return path(new LongStreamView<>((A a) -> getStream(a).mapToLong(that::get)), this, that);
+    }
+
+    public DoubleStreamView<A> andThen(final DoubleView<B> that) {
+        return path(new DoubleStreamView<>((A a) -> getStream(a).mapToDouble(that::get)), this, that);
     }
 
     public <C> ListView<C, B> compose(final View<C, A> that) {
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+/**
+ * A view of a traversal of {@code long} properties that streams them without boxing
+ *
+ * @param <A> The object into whose properties we want to view
+ */
+public class LongStreamView<A> extends Optic implements Function<A, LongStream> {
+
+    private final Function<A, LongStream> fget;
+
+    LongStreamView(Function<A, LongStream> fget) {
+        this.fget = fget;
+    }
+
+    LongStreamView(LongStreamView<A> view, String name, Boolean endsInTraversal) {
+        super(name, endsInTraversal);
+        this.fget = view.fget;
+    }
+
+    public static <A> LongStreamView<A> of(final Function<A, LongStream> fget) {
+        return new LongStreamView<>(fget);
+    }
+
+    /**
+     * Returns a copy of this view with the given name, which also names the paths of the optics composed of it
+     */
+    public LongStreamView<A> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    LongStreamView<A> renamed(String name, Boolean endsInTraversal) {
+        return new LongStreamView<>(this, name, endsInTraversal);
+    }
+
+    @Override
+    boolean isTraversal() {
+        return true;
+    }
+
+    @Override
+    public LongStream apply(A a) {
+        return getStream(a);
+    }
+
+    public LongStream getStream(A a) {
+        return a == null ? LongStream.empty() : fget.apply(a);
+    }
+
+    public long sum(A a) {
+        return getStream(a).sum();
+    }
+
+    public OptionalLong min(A a) {
+        return getStream(a).min();
+    }
+
+    public OptionalLong max(A a) {
+        return getStream(a).max();
+    }
+
+    public <C> LongStreamView<C> compose(final View<C, A> that) {
+        return that.andThen(this);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.OptionalLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * A view of a {@code long} property that reads it without boxing
+ *
+ * @param <A> The object into whose property we want to view
+ */
+public class LongView<A> extends Optic implements ToLongFunction<A> {
+
+    private final ToLongFunction<A> fget;
+
+    LongView(ToLongFunction<A> fget) {
+        this.fget = fget;
+    }
+
+    LongView(LongView<A> view) {
+        super(view);
+        this.fget = view.fget;
+    }
+
+    LongView(LongView<A> view, String name, Boolean endsInTraversal) {
+        super(name, endsInTraversal);
+        this.fget = view.fget;
+    }
+
+    public static <A> LongView<A> of(ToLongFunction<A> fget) {
+        return new LongView<>(fget);
+    }
+
+    /**
+     * Returns a copy of this view with the given name, which also names the paths of the optics composed of it
+     */
+    public LongView<A> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    LongView<A> renamed(String name, Boolean endsInTraversal) {
+        return new LongView<>(this, name, endsInTraversal);
+    }
+
+    @Override
+    public long applyAsLong(A a) {
+        return get(a);
+    }
+
+    /**
+     * Returns the value of the property, or 0 if the target is null
+     */
+    public long get(A a) {
+        return a == null ? 0 : fget.applyAsLong(a);
+    }
+
+    public long getOrElse(A a, long other) {
+        return a == null ? other : fget.applyAsLong(a);
+    }
+
+    public OptionalLong getOptional(A a) {
+        return a == null ? OptionalLong.empty() : OptionalLong.of(fget.applyAsLong(a));
+    }
+
+    public View<A, Long> boxed() {
+        return rename(View.of((A a) -> fget.applyAsLong(a)), name());
+    }
+
+    public <C> LongView<C> compose(final View<C, A> that) {
+        return that.andThen(this);
+    }
+
+    public <C> LongStreamView<C> compose(final StreamView<C, A> that) {
+        return that.andThen(this);
+    }
+
+    public <C> LongStreamView<C> compose(final ListView<C, A> that) {
+        return that.andThen(this);
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static java.util.stream.Collectors.toMap;
+
+import com.github.gerdreiss.optics.core.OpticsMetrics.Operation;
+import com.github.gerdreiss.optics.core.util.MapUtils;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Map.Entry;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * A lens into a map, which updates single entries as well as the whole map. Every update copies the map at most once,
+ * into a table sized for the result, and returns the target itself if it leaves the map unchanged, i.e. if it puts
+ * the same value instances, removes absent keys or the modifier returns each value itself.
+ *
+ * @param <A> The object into whose map we want to view or update
+ * @param <K> The keys of the map
+ * @param <V> The values of the map
+ */
+public class MapLens<A, K, V> extends MapView<A, K, V> {
+
+    private final BiFunction<A, Map<K, V>, A> fset;
+
+    MapLens(Function<A, Map<K, V>> fget, BiFunction<A, Map<K, V>, A> fset) {
+        super(fget);
+        this.fset = fset;
+    }
+
+    MapLens(MapLens<A, K, V> lens) {
+        super(lens, false);
+        this.fset = lens.fset;
+    }
+
+    MapLens(MapLens<A, K, V> lens, String name, Boolean endsInTraversal) {
+        super(lens, name, endsInTraversal);
+        this.fset = lens.fset;
+    }
+
+    public static <A, K, V> MapLens<A, K, V> of(
+            Function<A, Map<K, V>> fget, BiFunction<A, Map<K, V>, A> fset) {
+        return new MapLens<>(fget, fset);
+    }
+
+    @Override
+    public MapLens<A, K, V> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    MapLens<A, K, V> renamed(String name, Boolean endsInTraversal) {
+        return new MapLens<>(this, name, endsInTraversal);
+    }
+
+    /**
+     * Returns a lens that reports its calls to the installed {@link OpticsMetrics} under the given name. Lenses derived
+     * from it by composition report through it, other decorations of it are not instrumented.
+     */
+    @Override
+    public MapLens<A, K, V> instrumented(String name) {
+        return instrumented(name, null);
+    }
+
+    /**
+     * Returns a lens that reports its calls to the given {@link OpticsMetrics} under the given name. The updates of
+     * single entries are reported as sets of the map.
+     */
+    @Override
+    public MapLens<A, K, V> instrumented(String name, OpticsMetrics bound) {
+        var self = this;
+        return new MapLens<>(this) {
+            @Override
+            public Map<K, V> getMap(A a) {
+                return Instrumentation.time(bound, name, Operation.GET, () -> self.getMap(a), result -> result.size());
+            }
+
+            @Override
+            public A set(A target, Map<K, V> map) {
+                return Instrumentation.time(
+                        bound,
+                        name,
+                        Operation.SET,
+                        () -> self.set(target, map),
+                        result -> map == null ? -1 : map.size());
+            }
+
+            @Override
+            A rebuild(A target, Map<K, V> map) {
+                return Instrumentation.time(
+                        bound,
+                        name,
+                        Operation.SET,
+                        () -> self.rebuild(target, map),
+                        result -> map == null ? -1 : map.size());
+            }
+        };
+    }
+
+    /**
+     * Sets the map without checking the target for null or the map for changes
+     */
+    A rebuild(A target, Map<K, V> map) {
+        return fset.apply(target, map);
+    }
+
+    /**
+     * Returns the target with the map replaced, or the target itself if the map is the current map
+     */
+    public A set(A target, Map<K, V> map) {
+        if (target == null) {
+            return null;
+        }
+        return map == getMap(target) ? target : rebuild(target, map);
+    }
+
+    public Function<Map<K, V>, A> set(A target) {
+        return (Map<K, V> map) -> set(target, map);
+    }
+
+    public A modify(A target, Function<Map<K, V>, Map<K, V>> modifier) {
+        return target == null ? null : set(target, modifier.apply(getMap(target)));
+    }
+
+    /**
+     * Returns the target with the value of the key put, or the target itself if the value is the current value of the
+     * key
+     */
+    public A put(A target, K key, V value) {
+        if (target == null) {
+            return null;
+        }
+        var map = getMap(target);
+        var current = map.get(key);
+        if (current == value && (current != null || map.containsKey(key))) {
+            return target;
+        }
+        var copy = MapUtils.copyOf(map, current == null ? 1 : 0);
+        copy.put(key, value);
+        return rebuild(target, copy);
+    }
+
+    /**
+     * Returns the target with the key removed, or the target itself if the map does not contain the key
+     */
+    public A remove(A target, K key) {
+        if (target == null) {
+            return null;
+        }
+        var map = getMap(target);
+        if (!map.containsKey(key)) {
+            return target;
+        }
+        var copy = MapUtils.copyOf(map, 0);
+        copy.remove(key);
+        return rebuild(target, copy);
+    }
+
+    /**
+     * Returns a lens focusing on the value of the key, which is absent if the map does not contain the key. Setting an
+     * absent value removes the key.
+     */
+    public OptionalLens<A, V> at(K key) {
+        var lens = new OptionalLens<>(
+                (A a) -> Optional.ofNullable(getMap(a).get(key)),
+                (A a, Optional<V> maybeV) -> maybeV.isPresent() ? put(a, key, maybeV.get()) : remove(a, key));
+        return name() == null ? lens : rename(lens, name() + "[" + key + "]");
+    }
+
+    /**
+     * Returns the target with the values modified, or the target itself if the modifier returns each value itself
+     */
+    public A modifyValues(A target, Function<V, V> modifier) {
+        return updateValues(target, (K key, V value) -> modifier.apply(value));
+    }
+
+    /**
+     * Returns the target with the entries put, or the target itself if the map contains each of them already
+     */
+    public A putAll(A target, Map<? extends K, ? extends V> entries) {
+        if (target == null) {
+            return null;
+        }
+        var map = getMap(target);
+        var added = 0;
+        var changed = false;
+        for (var entry : entries.entrySet()) {
+            var current = map.get(entry.getKey());
+            if (current == null && !map.containsKey(entry.getKey())) {
+                added++;
+                changed = true;
+            } else if (current != entry.getValue()) {
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return target;
+        }
+        var copy = MapUtils.copyOf(map, added);
+        copy.putAll(entries);
+        return rebuild(target, copy);
+    }
+
+    /**
+     * Returns the target without the entries that match the predicate, or the target itself if none of them does
+     */
+    public A removeIf(A target, BiPredicate<? super K, ? super V> predicate) {
+        if (target == null) {
+            return null;
+        }
+        var map = getMap(target);
+        Map<K, V> copy = null;
+        for (var entry : map.entrySet()) {
+            if (predicate.test(entry.getKey(), entry.getValue())) {
+                if (copy == null) {
+                    copy = MapUtils.copyOf(map, 0);
+                }
+                copy.remove(entry.getKey());
+            }
+        }
+        return copy == null ? target : rebuild(target, copy);
+    }
+
+    private A updateValues(A target, BiFunction<K, V, V> update) {
+        if (target == null) {
+            return null;
+        }
+        var event = OpticEvents.start();
+        var map = getMap(target);
+        Map<K, V> copy = null;
+        for (var entry : map.entrySet()) {
+            var updated = update.apply(entry.getKey(), entry.getValue());
+            if (updated != entry.getValue()) {
+                if (copy == null) {
+                    copy = MapUtils.copyOf(map, 0);
+                }
+                copy.put(entry.getKey(), updated);
+            }
+        }
+        var result = copy == null ? target : rebuild(target, copy);
+        OpticEvents.end(event, this, "MapLens.modifyValues", map.size());
+        return result;
+    }
+
+    /**
+     * Returns a lens focusing on a property of the values. Setting the properties updates the values whose property in
+     * the given map is not the current instance, and leaves the other entries as they are.
+     */
+    public <V1> MapLens<A, K, V1> andThen(Lens<V, V1> that) {
+        return path(this, that, () -> new MapLens<>(
+                (A a) -> getMap(a).entrySet().stream()
+                        .map(e -> new SimpleImmutableEntry<>(e.getKey(), that.get(e.getValue())))
+                        .filter(e -> e.getValue() != null)
+                        .collect(toMap(Entry::getKey, Entry::getValue)),
+                (A a, Map<K, V1> values) -> updateValues(a, (K key, V value) -> {
+                    var updated = values.get(key);
+                    return updated == null || updated == that.get(value) ? value : that.set(value, updated);
+                })));
+    }
+
+    public <V1> MapLens<V1, K, V> compose(Lens<V1, A> that) {
+        return that.andThen(this);
+    }
+}
@@ -17,44 +17,168 @@ package com.github.gerdreiss.optics.core;
 
 import static java.util.stream.Collectors.toMap;
 
+import com.github.gerdreiss.optics.core.OpticsMetrics.Operation;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Map;
+import java.util.List;
 import java.util.Map.Entry;
+import java.util.Map;
 import java.util.function.Function;
 
-public class MapView<A, K, V> implements Function<A, Map<K, V>> {
+public class MapView<A, K, V> extends Optic implements Function<A, Map<K, V>> {
 
     private final Function<A, Map<K, V>> fget;
+    private final boolean lazy;
 
     MapView(Function<A, Map<K, V>> fget) {
+        this(fget, false);
+    }
+
+    MapView(Function<A, Map<K, V>> fget, boolean lazy) {
         this.fget = fget;
+        this.lazy = lazy;
+    }
+
+    MapView(MapView<A, K, V> view, boolean lazy) {
+        super(view);
+        this.fget = view.fget;
+        this.lazy = lazy;
+    }
+
+    MapView(MapView<A, K, V> view, String name, Boolean endsInTraversal) {
+        super(name, endsInTraversal);
+        this.fget = view.fget;
+        this.lazy = view.lazy;
     }
 
     public static <A, K, V> MapView<A, K, V> of(final Function<A, Map<K, V>> fget) {
         return new MapView<>(fget);
     }
 
+    /**
+     * Returns a copy of this view with the given name, which also names the paths of the optics composed of it
+     */
+    public MapView<A, K, V> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    MapView<A, K, V> renamed(String name, Boolean endsInTraversal) {
+        return new MapView<>(this, name, endsInTraversal);
+    }
+
+    @Override
+    boolean isTraversal() {
+        return true;
+    }
+
+    /**
+     * Returns a view whose compositions do not copy the map, but return a read-only map that applies the composed
+     * views to the values when they are read. A lookup by key only applies the composed views to a single value.
+     */
+    public MapView<A, K, V> lazy() {
+        return new MapView<>(this, true);
+    }
+
+    boolean isLazy() {
+        return lazy;
+    }
+
     @Override
     public Map<K, V> apply(A a) {
         return getMap(a);
     }
 
     public Map<K, V> getMap(A a) {
-        return a == null ? Collections.emptyMap() : fget.apply(a);
+        if (a == null) {
+            return Collections.emptyMap();
+        }
+        var event = OpticEvents.start();
+        var map = fget.apply(a);
+        OpticEvents.end(event, this, "MapView.getMap", lazy ? -1 : map.size());
+        return map;
+    }
+
+    /**
+     * Returns a view that caches the maps of up to the given number of targets, keyed by their identity and evicting
+     * the least recently used one
+     */
+    public MapView<A, K, V> memoized(int maxSize) {
+        return memoized(IdentityCache.of(maxSize));
+    }
+
+    /**
+     * Returns a view that caches the maps in the given cache, which also counts the cache hits and misses. A lazy view
+     * caches its read-only map, so the values are still mapped when they are read.
+     */
+    public MapView<A, K, V> memoized(IdentityCache<A, Map<K, V>> cache) {
+        return rename(new MapView<>((A a) -> cache.computeIfAbsent(a, this::getMap), lazy), name());
+    }
+
+    /**
+     * Returns a view that reports its calls to the installed {@link OpticsMetrics} under the given name. Views derived
+     * from it by composition report through it, other decorations of it are not instrumented.
+     */
+    public MapView<A, K, V> instrumented(String name) {
+        return instrumented(name, null);
+    }
+
+    /**
+     * Returns a view that reports its calls to the given {@link OpticsMetrics} under the given name
+     */
+    public MapView<A, K, V> instrumented(String name, OpticsMetrics bound) {
+        var self = this;
+        return new MapView<>(this, lazy) {
+            @Override
+            public Map<K, V> getMap(A a) {
+                return Instrumentation.time(
+                        bound, name, Operation.GET, () -> self.getMap(a), result -> lazy ? -1 : result.size());
+            }
+        };
+    }
+
+    public V get(A a, K key) {
+        return getMap(a).get(key);
+    }
+
+    public boolean containsKey(A a, K key) {
+        return getMap(a).containsKey(key);
+    }
+
+    /**
+     * Returns the maps of the given targets, in order
+     */
+    public List<Map<K, V>> getAll(List<A> targets) {
+        return getAll(targets, ListView.SEQUENTIAL);
+    }
+
+    public List<Map<K, V>> getAll(List<A> targets, int parallelThreshold) {
+        return Batches.map(targets, this::getMap, parallelThreshold);
     }
 
     public <V1> MapView<A, K, V1> andThen(final View<V, V1> that) {
-        return MapView.of((A a) -> getMap(a).entrySet().stream()
-                .map(e -> Map.entry(e.getKey(), that.get(e.getValue())))
-                .filter(e -> e.getValue() != null)
-                .collect(toMap(Entry::getKey, Entry::getValue)));
+        return path(this, that, () -> {
+            if (lazy) {
+                return new MapView<>((A a) -> new MappedMap<>(getMap(a), that::get, true), true);
+            }
+            return MapView.of((A a) -> getMap(a).entrySet().stream()
+                    .map(e -> new SimpleImmutableEntry<>(e.getKey(), that.get(e.getValue())))
+                    .filter(e -> e.getValue() != null)
+                    .collect(toMap(Entry::getKey, Entry::getValue)));
+        });
     }
 
     public <K1, V1> MapView<A, K, Collection<V1>> andThen(final MapView<V, K1, V1> that) {
-        return MapView.of((A a) -> getMap(a).entrySet().stream()
+        if (lazy) {
+            return path(
+                    new MapView<>((A a) -> new MappedMap<>(getMap(a), (V v) -> that.getMap(v).values(), false), true),
+                    this,
+                    that);
+        }
+        return path(MapView.of((A a) -> getMap(a).entrySet().stream()
                 .map(e -> Map.entry(e.getKey(), that.getMap(e.getValue()).values()))
-                .collect(toMap(Entry::getKey, Entry::getValue)));
+                .collect(toMap(Entry::getKey, Entry::getValue))), this, that);
     }
 
     public <V1> MapView<V1, K, V> compose(final View<V1, A> that) {
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A read-only map that maps the values of a source map when they are read, instead of copying the source map. Keys
+ * whose mapped value is null are left out if {@code skipNulls} is set, in which case the size of the map is computed
+ * by mapping all values.
+ */
+final class MappedMap<K, V, W> extends AbstractMap<K, W> {
+
+    private final Map<K, V> source;
+    private final Function<V, W> mapper;
+    private final boolean skipNulls;
+
+    MappedMap(Map<K, V> source, Function<V, W> mapper, boolean skipNulls) {
+        this.source = source;
+        this.mapper = mapper;
+        this.skipNulls = skipNulls;
+    }
+
+    @Override
+    public W get(Object key) {
+        var value = source.get(key);
+        return value == null && !source.containsKey(key) ? null : mapper.apply(value);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return skipNulls ? get(key) != null : source.containsKey(key);
+    }
+
+    @Override
+    public Set<Entry<K, W>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, W>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                if (!skipNulls) {
+                    return source.size();
+                }
+                var size = 0;
+                for (var iterator = iterator(); iterator.hasNext(); iterator.next()) {
+                    size++;
+                }
+                return size;
+            }
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, W>> {
+
+        private final Iterator<Entry<K, V>> entries = source.entrySet().iterator();
+        private Entry<K, W> next;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && entries.hasNext()) {
+                var entry = entries.next();
+                var value = mapper.apply(entry.getValue());
+                if (value != null || !skipNulls) {
+                    next = new SimpleImmutableEntry<>(entry.getKey(), value);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Entry<K, W> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var entry = next;
+            next = null;
+            return entry;
+        }
+    }
+}
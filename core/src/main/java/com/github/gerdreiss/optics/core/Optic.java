@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.function.Supplier;
+
+/**
+ * The base of all optics, which carries their optional name. The name of a composed optic is the path of the names of
+ * its parts, like {@code order.lines[*].price}, where {@code [*]} follows the name of an optic that focuses on many
+ * values. The name shows in {@code toString} and is what instrumentation reports the optic by.
+ */
+public abstract class Optic {
+
+    private final String name;
+    private final Boolean endsInTraversal;
+
+    Optic() {
+        this(null, null);
+    }
+
+    Optic(Optic other) {
+        this(other.name, other.endsInTraversal);
+    }
+
+    Optic(String name, Boolean endsInTraversal) {
+        this.name = name;
+        this.endsInTraversal = endsInTraversal;
+    }
+
+    /**
+     * Returns the name of this optic, or null if it has none
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Whether this optic focuses on many values, so that its name is followed by {@code [*]} in a path
+     */
+    boolean isTraversal() {
+        return false;
+    }
+
+    /**
+     * Whether the last optic of the path this optic is composed of focuses on many values
+     */
+    private boolean endsInTraversal() {
+        return endsInTraversal == null ? isTraversal() : endsInTraversal;
+    }
+
+    /**
+     * Returns a copy of this optic with the given name, and whether the path it names ends in a traversal, or null to
+     * take that from the optic itself
+     */
+    abstract Optic renamed(String name, Boolean endsInTraversal);
+
+    @Override
+    public String toString() {
+        return name == null ? super.toString() : name;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <O extends Optic> O rename(O optic, String name) {
+        return (O) optic.renamed(name, null);
+    }
+
+    /**
+     * Returns the left optic as it is if the right one is the identity iso, or else the composition, named by the path
+     * of the two optics
+     */
+    @SuppressWarnings("unchecked")
+    static <O extends Optic> O path(Optic left, Optic right, Supplier<O> composition) {
+        return Iso.isIdentity(right) ? (O) left : path(composition.get(), left, right);
+    }
+
+    /**
+     * Names the composed optic by the path of the optics it is composed of, unless neither of them has a name
+     */
+    @SuppressWarnings("unchecked")
+    static <O extends Optic> O path(O composed, Optic left, Optic right) {
+        var name = left.name == null && right.name == null
+                ? null
+                : (left.name == null ? "?" : left.name)
+                        + (left.endsInTraversal() ? "[*]." : ".")
+                        + (right.name == null ? "?" : right.name);
+        return (O) composed.renamed(name, right.endsInTraversal());
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The Flight Recorder event of an optic operation. Only operations taking longer than the threshold are recorded; the
+ * threshold defaults to 1 ms and is configured like that of any other event, e.g. with
+ * {@code jfr configure com.github.gerdreiss.optics.OpticOperation#threshold=10ms} or
+ * {@code Recording.enable(NAME).withThreshold(...)}. Operations create it through the {@link OpticEvents} gate.
+ */
+@Name(OpticEvent.NAME)
+@Label("Optic Operation")
+@Category("Optics")
+@Description("An operation of a lens or view that took longer than the threshold")
+@Threshold("1 ms")
+@StackTrace(false)
+final class OpticEvent extends Event {
+
+    static final String NAME = "com.github.gerdreiss.optics.OpticOperation";
+
+    @Label("Optic")
+    String optic;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Elements")
+    @Description("The number of elements the operation processed, or -1 if unknown")
+    long elements;
+
+    static OpticEvent start() {
+        var event = new OpticEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event if it is enabled and took longer than the threshold
+     */
+    void end(Object optic, String operation, long elements) {
+        end();
+        if (shouldCommit()) {
+            this.optic = String.valueOf(optic);
+            this.operation = operation;
+            this.elements = elements;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import jdk.jfr.EventType;
+
+/**
+ * The gate of the {@link OpticEvent}s, which creates them only while a recording enables them. Operations therefore
+ * allocate nothing for their events when the Flight Recorder is off, and run on a runtime without the jdk.jfr module.
+ * Callers hold the events as plain objects, so that only this class refers to the event class, and resolves it once
+ * on first use.
+ */
+final class OpticEvents {
+
+    private OpticEvents() {
+    }
+
+    /**
+     * Starts an event of an operation if a recording enables it, or else returns null
+     */
+    static Object start() {
+        return Recorder.enabled() ? OpticEvent.start() : null;
+    }
+
+    /**
+     * Commits the event of the operation if it was started and took longer than the threshold
+     */
+    static void end(Object event, Object optic, String operation, long elements) {
+        if (event != null) {
+            ((OpticEvent) event).end(optic, operation, elements);
+        }
+    }
+
+    /**
+     * Holds the type of the event, or null if the runtime has no Flight Recorder
+     */
+    private static final class Recorder {
+
+        private static final EventType TYPE = type();
+
+        private static EventType type() {
+            try {
+                Class.forName("jdk.jfr.Event", false, OpticEvents.class.getClassLoader());
+                return EventType.getEventType(OpticEvent.class);
+            } catch (ClassNotFoundException | LinkageError e) {
+                return null;
+            }
+        }
+
+        static boolean enabled() {
+            return TYPE != null && TYPE.isEnabled();
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * A lock-free store of immutable state, which is updated through lenses, and through optional, list and map lenses. An
+ * update computes the new state from the current one and publishes it with a weak compare-and-set. The CAS is retried
+ * as it is if it failed spuriously, while the state is still the one the update was computed from, so the update is
+ * only computed again if another thread published a new state in between. Such retries back off by spinning, and by
+ * yielding once they keep failing.
+ *
+ * <p>The store counts its contention per optic, by the name of the optic: the updates that were computed again, and
+ * all the failed CAS including the spurious ones. Unnamed optics are counted together under {@code "?"}.
+ *
+ * @param <A> The type of the state
+ */
+public final class OpticStore<A> {
+
+    private static final int SPIN_LIMIT = 6;
+
+    private final AtomicReference<A> state;
+    private final Map<String, Contention> contention = new ConcurrentHashMap<>();
+
+    OpticStore(AtomicReference<A> state) {
+        this.state = state;
+    }
+
+    public static <A> OpticStore<A> of(A initial) {
+        return new OpticStore<>(new AtomicReference<>(initial));
+    }
+
+    /**
+     * Returns a store backed by the given reference, which it updates with the same CAS as the other writers of it
+     */
+    public static <A> OpticStore<A> of(AtomicReference<A> state) {
+        return new OpticStore<>(state);
+    }
+
+    /**
+     * The contention of the updates through one optic
+     */
+    public static final class Contention {
+
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder failedCas = new LongAdder();
+
+        Contention() {
+        }
+
+        /**
+         * Returns the number of updates that were computed again because another thread published a new state
+         */
+        public long retries() {
+            return retries.sum();
+        }
+
+        /**
+         * Returns the number of failed CAS, including the spurious failures that were retried without computing the
+         * update again
+         */
+        public long failedCas() {
+            return failedCas.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "Contention[retries=" + retries() + ", failedCas=" + failedCas() + "]";
+        }
+    }
+
+    public A get() {
+        return state.get();
+    }
+
+    public <B> B get(View<A, B> view) {
+        return view.get(state.get());
+    }
+
+    /**
+     * Sets the value of the lens and returns the new state
+     */
+    public <B> A set(Lens<A, B> lens, B value) {
+        return update(lens, (A a) -> lens.set(a, value), false);
+    }
+
+    /**
+     * Modifies the value of the lens and returns the new state. The modifier may be called more than once if other
+     * threads update the state concurrently.
+     */
+    public <B> A modify(Lens<A, B> lens, Function<B, B> modifier) {
+        return update(lens, (A a) -> lens.modify(a, modifier), false);
+    }
+
+    /**
+     * Modifies the value of the lens and returns its previous value. The modifier may be called more than once if
+     * other threads update the state concurrently.
+     */
+    public <B> B getAndModify(Lens<A, B> lens, Function<B, B> modifier) {
+        return lens.get(update(lens, (A a) -> lens.modify(a, modifier), true));
+    }
+
+    /**
+     * Sets the value of the optional lens, or clears it if the value is empty, and returns the new state
+     */
+    public <B> A set(OptionalLens<A, B> lens, Optional<B> value) {
+        return update(lens, (A a) -> lens.set(a, value), false);
+    }
+
+    /**
+     * Modifies the value of the optional lens if it is present, and returns the new state. The modifier may be called
+     * more than once if other threads update the state concurrently.
+     */
+    public <B> A modify(OptionalLens<A, B> lens, Function<B, B> modifier) {
+        return update(lens, (A a) -> lens.modify(a, modifier), false);
+    }
+
+    /**
+     * Sets the values of the list lens and returns the new state
+     */
+    public <B> A set(ListLens<A, B> lens, List<B> values) {
+        return update(lens, (A a) -> lens.set(a, values), false);
+    }
+
+    /**
+     * Modifies each value of the list lens and returns the new state. The modifier may be called more than once per
+     * value if other threads update the state concurrently.
+     */
+    public <B> A modify(ListLens<A, B> lens, Function<B, B> modifier) {
+        return update(lens, (A a) -> lens.modify(a, modifier), false);
+    }
+
+    /**
+     * Sets the map of the map lens and returns the new state
+     */
+    public <K, V> A set(MapLens<A, K, V> lens, Map<K, V> map) {
+        return update(lens, (A a) -> lens.set(a, map), false);
+    }
+
+    /**
+     * Modifies the map of the map lens and returns the new state. The modifier may be called more than once if other
+     * threads update the state concurrently.
+     */
+    public <K, V> A modify(MapLens<A, K, V> lens, Function<Map<K, V>, Map<K, V>> modifier) {
+        return update(lens, (A a) -> lens.modify(a, modifier), false);
+    }
+
+    /**
+     * Returns the contention of the updates through the named optic, or null if they never contended
+     */
+    public Contention contention(String optic) {
+        return contention.get(optic);
+    }
+
+    /**
+     * Returns the contention of the updates by the names of their optics, for the optics whose updates contended
+     */
+    public Map<String, Contention> contention() {
+        return Collections.unmodifiableMap(contention);
+    }
+
+    /**
+     * Publishes the state the update returns for the current state, and returns either the new state or the one it
+     * replaced. An update that returns the current state itself is not published.
+     */
+    private A update(Optic optic, UnaryOperator<A> update, boolean previous) {
+        var current = state.get();
+        Contention stats = null;
+        for (int retries = 0; ; retries++) {
+            var updated = update.apply(current);
+            if (updated == current) {
+                return current;
+            }
+            while (true) {
+                if (state.weakCompareAndSetVolatile(current, updated)) {
+                    return previous ? current : updated;
+                }
+                if (stats == null) {
+                    stats = contention.computeIfAbsent(name(optic), name -> new Contention());
+                }
+                stats.failedCas.increment();
+                var witness = state.get();
+                if (witness != current) {
+                    current = witness;
+                    break;
+                }
+            }
+            stats.retries.increment();
+            backoff(retries);
+        }
+    }
+
+    private static String name(Optic optic) {
+        return optic.name() == null ? "?" : optic.name();
+    }
+
+    private static void backoff(int retries) {
+        if (retries < SPIN_LIMIT) {
+            for (int i = 1 << retries; i > 0; i--) {
+                Thread.onSpinWait();
+            }
+        } else {
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+/**
+ * The listener instrumented optics report their calls to. Optics instrumented without a listener report to the
+ * installed one, and skip the measurement entirely if there is none.
+ */
+@FunctionalInterface
+public interface OpticsMetrics {
+
+    /**
+     * The operations instrumented optics report
+     */
+    enum Operation {
+        GET,
+        SET,
+        MODIFY
+    }
+
+    /**
+     * Records a call of the named optic, which took the given time and traversed a collection of the given size, or -1
+     * if the optic does not focus on a collection
+     */
+    void record(String optic, Operation operation, long nanos, int size);
+
+    /**
+     * Installs the listener of the optics instrumented without one
+     */
+    static void install(OpticsMetrics metrics) {
+        Instrumentation.installed = metrics;
+    }
+
+    static void uninstall() {
+        Instrumentation.installed = null;
+    }
+}
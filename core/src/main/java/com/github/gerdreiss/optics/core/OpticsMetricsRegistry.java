@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An in-memory {@link OpticsMetrics} that keeps per optic and operation call counts, latency histograms and the number
+ * of traversed elements
+ */
+public final class OpticsMetricsRegistry implements OpticsMetrics {
+
+    /**
+     * The statistics of an operation of an optic
+     */
+    public static final class Stats {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder elements = new LongAdder();
+        private final LatencyHistogram latencies = new LatencyHistogram();
+
+        Stats() {
+        }
+
+        void record(long nanos, int size) {
+            this.calls.increment();
+            this.nanos.add(nanos);
+            if (size > 0) {
+                this.elements.add(size);
+            }
+            this.latencies.record(nanos);
+        }
+
+        public long calls() {
+            return calls.sum();
+        }
+
+        public long totalNanos() {
+            return nanos.sum();
+        }
+
+        public long elements() {
+            return elements.sum();
+        }
+
+        public LatencyHistogram latencies() {
+            return latencies;
+        }
+    }
+
+    private final Map<String, Map<Operation, Stats>> stats = new ConcurrentHashMap<>();
+
+    OpticsMetricsRegistry() {
+    }
+
+    public static OpticsMetricsRegistry create() {
+        return new OpticsMetricsRegistry();
+    }
+
+    @Override
+    public void record(String optic, Operation operation, long nanos, int size) {
+        var operations = stats.computeIfAbsent(optic, o -> new ConcurrentHashMap<>());
+        operations.computeIfAbsent(operation, o -> new Stats()).record(nanos, size);
+    }
+
+    /**
+     * Returns the statistics of an operation of an optic, or null if it was not called
+     */
+    public Stats stats(String optic, Operation operation) {
+        var operations = stats.get(optic);
+        return operations == null ? null : operations.get(operation);
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    /**
+     * Returns a report of the statistics, one line per optic and operation, ordered by optic name
+     */
+    public String report() {
+        var report = new StringBuilder();
+        new TreeMap<>(stats).forEach((optic, operations) -> new TreeMap<>(operations).forEach((operation, s) -> {
+            var calls = s.calls();
+            report.append(String.format("%s %s calls=%d mean=%dns p50<=%dns p99<=%dns elements=%d%n",
+                    optic,
+                    operation,
+                    calls,
+                    calls == 0 ? 0 : s.totalNanos() / calls,
+                    s.latencies().quantile(0.5),
+                    s.latencies().quantile(0.99),
+                    s.elements()));
+        }));
+        return report.toString();
+    }
+}
@@ -15,8 +15,10 @@
  */
 package com.github.gerdreiss.optics.core;
 
+import com.github.gerdreiss.optics.core.OpticsMetrics.Operation;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 
 /**
@@ -29,10 +31,31 @@ import java.util.function.Function;
 public class OptionalLens<A, B> extends OptionalView<A, B> {
 
     private final BiFunction<A, Optional<B>, A> fset;
+    private final BiPredicate<? super B, ? super B> unchanged;
 
     OptionalLens(Function<A, Optional<B>> fget, BiFunction<A, Optional<B>, A> fset) {
+        this(fget, fset, null);
+    }
+
+    OptionalLens(
+            Function<A, Optional<B>> fget,
+            BiFunction<A, Optional<B>, A> fset,
+            BiPredicate<? super B, ? super B> unchanged) {
         super(fget);
         this.fset = fset;
+        this.unchanged = unchanged;
+    }
+
+    OptionalLens(OptionalLens<A, B> lens, BiPredicate<? super B, ? super B> unchanged) {
+        super(lens);
+        this.fset = lens.fset;
+        this.unchanged = unchanged;
+    }
+
+    OptionalLens(OptionalLens<A, B> lens, String name, Boolean endsInTraversal) {
+        super(lens, name, endsInTraversal);
+        this.fset = lens.fset;
+        this.unchanged = lens.unchanged;
     }
 
     public static <A, B> OptionalLens<A, B> of(
@@ -40,12 +63,88 @@ public class OptionalLens<A, B> extends OptionalView<A, B> {
         return new OptionalLens<>(fget, fset);
     }
 
+    @Override
+    public OptionalLens<A, B> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    OptionalLens<A, B> renamed(String name, Boolean endsInTraversal) {
+        return new OptionalLens<>(this, name, endsInTraversal);
+    }
+
+    /**
+     * Returns a lens that does not rebuild the target if the new value is absent like the current one, or the same
+     * instance as the current one, but returns the target itself
+     */
+    public OptionalLens<A, B> preservingIdentity() {
+        return preservingIdentity((b1, b2) -> b1 == b2);
+    }
+
+    /**
+     * Returns a lens that does not rebuild the target if the new value is absent like the current one, or unchanged
+     * according to the given predicate, but returns the target itself
+     */
+    public OptionalLens<A, B> preservingIdentity(BiPredicate<? super B, ? super B> unchanged) {
+        return new OptionalLens<>(this, unchanged);
+    }
+
+    BiPredicate<? super B, ? super B> unchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Returns a lens that reports its calls to the installed {@link OpticsMetrics} under the given name. Lenses derived
+     * from it by composition report through it, other decorations of it are not instrumented.
+     */
+    public OptionalLens<A, B> instrumented(String name) {
+        return instrumented(name, null);
+    }
+
+    /**
+     * Returns a lens that reports its calls to the given {@link OpticsMetrics} under the given name
+     */
+    public OptionalLens<A, B> instrumented(String name, OpticsMetrics bound) {
+        var self = this;
+        return new OptionalLens<>(this, unchanged) {
+            @Override
+            public Optional<B> getOptional(A a) {
+                return Instrumentation.time(bound, name, Operation.GET, () -> self.getOptional(a));
+            }
+
+            @Override
+            public A set(A target, Optional<B> value) {
+                return Instrumentation.time(bound, name, Operation.SET, () -> self.set(target, value));
+            }
+
+            @Override
+            A rebuild(A target, Optional<B> value) {
+                return Instrumentation.time(bound, name, Operation.SET, () -> self.rebuild(target, value));
+            }
+
+            @Override
+            public A modify(A target, Function<B, B> modifier) {
+                return Instrumentation.time(bound, name, Operation.MODIFY, () -> self.modify(target, modifier));
+            }
+        };
+    }
+
+    /**
+     * Sets the value without checking the target for null or the value for changes
+     */
+    A rebuild(A target, Optional<B> value) {
+        return fset.apply(target, value);
+    }
+
     public A set(A target, Optional<B> value) {
-        return target == null ? null : fset.apply(target, value);
+        if (target == null) {
+            return null;
+        }
+        return unchanged != null && isUnchanged(getOptional(target), value) ? target : rebuild(target, value);
     }
 
     public A set(A target, B value) {
-        return target == null ? null : fset.apply(target, Optional.ofNullable(value));
+        return set(target, Optional.ofNullable(value));
     }
 
     public Function<Optional<B>, A> set(A target) {
@@ -53,19 +152,65 @@ public class OptionalLens<A, B> extends OptionalView<A, B> {
     }
 
     public A modify(A target, Function<B, B> modifier) {
-        return set(target, getOptional(target).map(modifier));
+        if (unchanged == null) {
+            return set(target, getOptional(target).map(modifier));
+        }
+        var value = getOptional(target);
+        var modified = value.map(modifier);
+        return target == null || isUnchanged(value, modified) ? target : rebuild(target, modified);
+    }
+
+    private boolean isUnchanged(Optional<B> value, Optional<B> updated) {
+        return value == updated
+                || value.isEmpty() && updated.isEmpty()
+                || value.isPresent() && updated.isPresent() && unchanged.test(value.get(), updated.get());
+    }
+
+    /**
+     * Sets the value the update returns for the current value, or returns the target if the update leaves the current
+     * value absent or returns the current value itself
+     */
+    A rebuildIfChanged(A target, Function<Optional<B>, Optional<B>> update) {
+        if (target == null) {
+            return null;
+        }
+        var value = getOptional(target);
+        var updated = update.apply(value);
+        var identical = value.isEmpty() && updated.isEmpty()
+                || value.isPresent() && updated.isPresent() && value.get() == updated.get();
+        return identical ? target : rebuild(target, updated);
     }
 
     public <C> OptionalLens<A, C> andThen(Lens<B, C> that) {
-        return OptionalLens.of(
+        return path(this, that, () -> new OptionalLens<>(
                 (A a) -> getOptional(a).map(that::get),
-                (A a, Optional<C> maybeC) -> set(a, getOptional(a).flatMap(b -> maybeC.map(c -> that.set(b, c)))));
+                that.unchanged() == null
+                        ? (A a, Optional<C> maybeC) ->
+                                set(a, getOptional(a).flatMap(b -> maybeC.map(c -> that.set(b, c))))
+                        : (A a, Optional<C> maybeC) ->
+                                rebuildIfChanged(a, maybeB -> maybeB.flatMap(b -> maybeC.map(c -> that.set(b, c)))),
+                that.unchanged()));
     }
 
     public <C> OptionalLens<A, C> andThen(OptionalLens<B, C> that) {
-        return OptionalLens.of(
+        return path(new OptionalLens<>(
                 (A a) -> getOptional(a).flatMap(that::getOptional),
-                (A a, Optional<C> maybeC) -> set(a, getOptional(a).map(b -> that.set(b, maybeC))));
+                that.unchanged() == null
+                        ? (A a, Optional<C> maybeC) -> set(a, getOptional(a).map(b -> that.set(b, maybeC)))
+                        : (A a, Optional<C> maybeC) ->
+                                rebuildIfChanged(a, maybeB -> maybeB.map(b -> that.set(b, maybeC))),
+                that.unchanged()), this, that);
+    }
+
+    /**
+     * Returns a lens focusing on a case of the value, which sets the case only if the value is of the case
+     */
+    public <C> OptionalLens<A, C> andThen(Prism<B, C> that) {
+        return path(new OptionalLens<>(
+                (A a) -> getOptional(a).map(that::getOrNull),
+                (A a, Optional<C> maybeC) -> maybeC.isPresent()
+                        ? rebuildIfChanged(a, maybeB -> maybeB.map(b -> that.set(b, maybeC.get())))
+                        : a), this, that);
     }
 
     public <C> OptionalLens<C, B> compose(Lens<C, A> that) {
@@ -18,8 +18,9 @@ package com.github.gerdreiss.optics.core;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 
+import com.github.gerdreiss.optics.core.OpticsMetrics.Operation;
+import com.github.gerdreiss.optics.core.util.QueueUtils;
 import java.util.Optional;
-import java.util.PriorityQueue;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -30,7 +31,7 @@ import java.util.stream.Stream;
  * @param <A> The object into whose property we want to view
  * @param <B> The object property which we want to view
  */
-public class OptionalView<A, B> implements Function<A, Optional<B>> {
+public class OptionalView<A, B> extends Optic implements Function<A, Optional<B>> {
 
     private final Function<A, Optional<B>> fget;
 
@@ -38,10 +39,32 @@ public class OptionalView<A, B> implements Function<A, Optional<B>> {
         this.fget = fget;
     }
 
+    OptionalView(OptionalView<A, B> view) {
+        super(view);
+        this.fget = view.fget;
+    }
+
+    OptionalView(OptionalView<A, B> view, String name, Boolean endsInTraversal) {
+        super(name, endsInTraversal);
+        this.fget = view.fget;
+    }
+
     public static <A, B> OptionalView<A, B> of(final Function<A, Optional<B>> fget) {
         return new OptionalView<>(fget);
     }
 
+    /**
+     * Returns a copy of this view with the given name, which also names the paths of the optics composed of it
+     */
+    public OptionalView<A, B> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    OptionalView<A, B> renamed(String name, Boolean endsInTraversal) {
+        return new OptionalView<>(this, name, endsInTraversal);
+    }
+
     @Override
     public Optional<B> apply(A a) {
         return getOptional(a);
@@ -51,33 +74,74 @@ public class OptionalView<A, B> implements Function<A, Optional<B>> {
         return a == null ? Optional.empty() : fget.apply(a);
     }
 
+    /**
+     * Returns a view that caches the values of up to the given number of targets, keyed by their identity and evicting
+     * the least recently used one
+     */
+    public OptionalView<A, B> memoized(int maxSize) {
+        return memoized(IdentityCache.of(maxSize));
+    }
+
+    /**
+     * Returns a view that caches the values in the given cache, which also counts the cache hits and misses
+     */
+    public OptionalView<A, B> memoized(IdentityCache<A, Optional<B>> cache) {
+        return rename(new OptionalView<>((A a) -> cache.computeIfAbsent(a, this::getOptional)), name());
+    }
+
+    /**
+     * Returns a view that reports its calls to the installed {@link OpticsMetrics} under the given name. Views derived
+     * from it by composition report through it, other decorations of it are not instrumented.
+     */
+    public OptionalView<A, B> instrumented(String name) {
+        return instrumented(name, null);
+    }
+
+    /**
+     * Returns a view that reports its calls to the given {@link OpticsMetrics} under the given name
+     */
+    public OptionalView<A, B> instrumented(String name, OpticsMetrics bound) {
+        var self = this;
+        return new OptionalView<>(this) {
+            @Override
+            public Optional<B> getOptional(A a) {
+                return Instrumentation.time(bound, name, Operation.GET, () -> self.getOptional(a));
+            }
+        };
+    }
+
     public <C> OptionalView<A, C> andThen(final View<B, C> that) {
-        return OptionalView.of((A a) -> getOptional(a).map(that::get));
+        return path(this, that, () -> OptionalView.of((A a) -> getOptional(a).map(that::get)));
     }
 
     public <C> OptionalView<A, C> andThen(final OptionalView<B, C> that) {
-        return OptionalView.of((A a) -> getOptional(a).flatMap(that::getOptional));
+        return path(OptionalView.of((A a) -> getOptional(a).flatMap(that::getOptional)), this, that);
     }
 
     public <C> StreamView<A, C> andThen(final StreamView<B, C> that) {
-        return StreamView.of((A a) -> getOptional(a).map(that::getStream).orElse(Stream.empty()));
+        return path(StreamView.of((A a) -> getOptional(a).map(that::getStream).orElse(Stream.empty())), this, that);
     }
 
     public <C> CollectionView<A, C> andThen(final CollectionView<B, C> that) {
-        return CollectionView.of((A a) -> getOptional(a).map(that::getCollection).orElse(emptyList()));
+        return path(
+                new CollectionView<>(
+                        (A a) -> getOptional(a).map(that::getCollection).orElse(emptyList()), that.parallelThreshold()),
+                this,
+                that);
     }
 
     public <C> ListView<A, C> andThen(final ListView<B, C> that) {
-        return ListView.of((A a) -> getOptional(a).map(that::getList).orElse(emptyList()));
+        return path(new ListView<>(
+                (A a) -> getOptional(a).map(that::getList).orElse(emptyList()), that.parallelThreshold()), this, that);
     }
 
     public <C> SetView<A, C> andThen(final SetView<B, C> that) {
-        return SetView.of((A a) -> getOptional(a).map(that::getSet).orElse(emptySet()));
+        return path(SetView.of((A a) -> getOptional(a).map(that::getSet).orElse(emptySet())), this, that);
     }
 
     public <C> QueueView<A, C> andThen(final QueueView<B, C> that) {
-        return QueueView.of(
-                (A a) -> getOptional(a).map(that::getQueue).orElse(new PriorityQueue<>()));
+        return path(QueueView.of(
+                (A a) -> getOptional(a).map(that::getQueue).orElseGet(QueueUtils::empty)), this, that);
     }
 
     public <C> OptionalView<C, B> compose(final View<C, A> that) {
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.stream.Collector;
+
+/**
+ * An immutable list that shares its structure with the lists it is updated from. The elements are stored in a trie of
+ * 32-element arrays plus a tail array, so replacing an element copies only the arrays on the path to it and appending
+ * one copies at most that path. Both take O(log32 n) time, which is a few array copies for any practical size. A
+ * slice is a window over the same trie, so it takes constant time and keeps the elements outside of it reachable.
+ *
+ * <p>The vector is a read-only {@link java.util.List}, whose mutators throw {@link UnsupportedOperationException}.
+ *
+ * @param <E> The type of the elements
+ */
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final PersistentVector<Object> EMPTY =
+            new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0], 0, 0);
+
+    // the trie, which holds count elements
+    private final int count;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    // the window of the trie that is visible as this vector
+    private final int offset;
+    private final int length;
+
+    private PersistentVector(int count, int shift, Object[] root, Object[] tail, int offset, int length) {
+        this.count = count;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <E> PersistentVector<E> of(E... elements) {
+        PersistentVector<E> vector = empty();
+        for (var element : elements) {
+            vector = vector.append(element);
+        }
+        return vector;
+    }
+
+    /**
+     * Returns a vector of the given elements, or the elements themselves if they are a vector already
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> ofAll(Iterable<? extends E> elements) {
+        if (elements instanceof PersistentVector) {
+            return (PersistentVector<E>) elements;
+        }
+        PersistentVector<E> vector = empty();
+        for (var element : elements) {
+            vector = vector.append(element);
+        }
+        return vector;
+    }
+
+    /**
+     * Returns a collector into a vector
+     */
+    public static <E> Collector<E, ?, PersistentVector<E>> collector() {
+        return Collector.of(
+                PersistentVector::<E>box,
+                (box, element) -> box[0] = box[0].append(element),
+                (left, right) -> {
+                    left[0] = left[0].appendAll(right[0]);
+                    return left;
+                },
+                box -> box[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> PersistentVector<E>[] box() {
+        return (PersistentVector<E>[]) new PersistentVector<?>[] {EMPTY};
+    }
+
+    @Override
+    public int size() {
+        return length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, length);
+        var i = offset + index;
+        return (E) leafFor(i)[i & MASK];
+    }
+
+    /**
+     * Returns a vector with the element at the given index replaced, or this vector if the element is the same
+     * instance
+     */
+    public PersistentVector<E> with(int index, E element) {
+        Objects.checkIndex(index, length);
+        var i = offset + index;
+        var leaf = leafFor(i);
+        if (leaf[i & MASK] == element) {
+            return this;
+        }
+        if (i >= tailOffset()) {
+            var newTail = tail.clone();
+            newTail[i & MASK] = element;
+            return new PersistentVector<>(count, shift, root, newTail, offset, length);
+        }
+        return new PersistentVector<>(count, shift, assoc(shift, root, i, element), tail, offset, length);
+    }
+
+    /**
+     * Returns a vector with the element appended. Appending to a slice replaces the element after it in the trie, which
+     * is not visible through the slice.
+     */
+    public PersistentVector<E> append(E element) {
+        var end = offset + length;
+        if (end < count) {
+            return replaceAfter(end, element);
+        }
+        if (count - tailOffset() < WIDTH) {
+            var newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(count + 1, shift, root, newTail, offset, length + 1);
+        }
+        Object[] newRoot;
+        var newShift = shift;
+        if ((count >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(count + 1, newShift, newRoot, new Object[] {element}, offset, length + 1);
+    }
+
+    public PersistentVector<E> appendAll(Iterable<? extends E> elements) {
+        var vector = this;
+        for (var element : elements) {
+            vector = vector.append(element);
+        }
+        return vector;
+    }
+
+    /**
+     * Returns the elements from the first index, inclusive, to the second one, exclusive, sharing the trie of this
+     * vector
+     */
+    public PersistentVector<E> slice(int from, int to) {
+        Objects.checkFromToIndex(from, to, length);
+        return from == 0 && to == length
+                ? this
+                : new PersistentVector<>(count, shift, root, tail, offset + from, to - from);
+    }
+
+    @Override
+    public PersistentVector<E> subList(int from, int to) {
+        return slice(from, to);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index = offset;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return index < offset + length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (leaf == null || (index & MASK) == 0) {
+                    leaf = leafFor(index);
+                }
+                return (E) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    private PersistentVector<E> replaceAfter(int i, E element) {
+        if (i >= tailOffset()) {
+            var newTail = tail.clone();
+            newTail[i & MASK] = element;
+            return new PersistentVector<>(count, shift, root, newTail, offset, length + 1);
+        }
+        return new PersistentVector<>(count, shift, assoc(shift, root, i, element), tail, offset, length + 1);
+    }
+
+    private int tailOffset() {
+        return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int i) {
+        if (i >= tailOffset()) {
+            return tail;
+        }
+        var node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(i >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private static Object[] assoc(int level, Object[] node, int i, Object element) {
+        var copy = node.clone();
+        if (level == 0) {
+            copy[i & MASK] = element;
+        } else {
+            var index = (i >>> level) & MASK;
+            copy[index] = assoc(level - BITS, (Object[]) node[index], i, element);
+        }
+        return copy;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        var index = ((count - 1) >>> level) & MASK;
+        var copy = parent.clone();
+        Object[] child;
+        if (level == BITS) {
+            child = tailNode;
+        } else {
+            var existing = (Object[]) parent[index];
+            child = existing != null ? pushTail(level - BITS, existing, tailNode) : newPath(level - BITS, tailNode);
+        }
+        copy[index] = child;
+        return copy;
+    }
+
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        var path = new Object[WIDTH];
+        path[0] = newPath(level - BITS, node);
+        return path;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static java.util.Collections.emptyList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A prism focuses on one case of a sum type, e.g. on one subtype of a sealed interface. Unlike an {@link OptionalLens}
+ * it matches without allocating: its getter returns null if the target is not of the case, so a prism cannot focus on
+ * null values. Updating a target that is not of the case returns the target itself.
+ *
+ * @param <S> The sum type
+ * @param <A> The case of the sum type
+ */
+public class Prism<S, A> extends Optic {
+
+    private final Function<S, A> fget;
+    private final Function<A, S> freverse;
+
+    Prism(Function<S, A> fget, Function<A, S> freverse) {
+        this.fget = fget;
+        this.freverse = freverse;
+    }
+
+    Prism(Prism<S, A> prism) {
+        super(prism);
+        this.fget = prism.fget;
+        this.freverse = prism.freverse;
+    }
+
+    Prism(Prism<S, A> prism, String name, Boolean endsInTraversal) {
+        super(name, endsInTraversal);
+        this.fget = prism.fget;
+        this.freverse = prism.freverse;
+    }
+
+    /**
+     * Returns a prism from a getter that returns null if the target is not of the case, and a function that turns the
+     * case back into the sum type
+     */
+    public static <S, A> Prism<S, A> of(Function<S, A> getOrNull, Function<A, S> reverseGet) {
+        return new Prism<>(getOrNull, reverseGet);
+    }
+
+    /**
+     * Returns the prism of a subtype, which matches by a type test and is named after the subtype
+     */
+    public static <S, A extends S> Prism<S, A> instanceOf(Class<A> type) {
+        var prism = new Prism<>((S s) -> type.isInstance(s) ? type.cast(s) : null, (A a) -> a);
+        return rename(prism, type.getSimpleName());
+    }
+
+    /**
+     * Returns the prisms of the permitted subtypes of a sealed type, in the order in which they are declared
+     */
+    @SuppressWarnings("unchecked")
+    public static <S> List<Prism<S, ? extends S>> cases(Class<S> sealedType) {
+        if (!sealedType.isSealed()) {
+            throw new IllegalArgumentException(sealedType.getName() + " is not sealed");
+        }
+        var subtypes = sealedType.getPermittedSubclasses();
+        var prisms = new ArrayList<Prism<S, ? extends S>>(subtypes.length);
+        for (var subtype : subtypes) {
+            prisms.add(instanceOf((Class<? extends S>) subtype));
+        }
+        return prisms;
+    }
+
+    /**
+     * Returns a copy of this prism with the given name, which also names the paths of the optics composed of it
+     */
+    public Prism<S, A> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    Prism<S, A> renamed(String name, Boolean endsInTraversal) {
+        return new Prism<>(this, name, endsInTraversal);
+    }
+
+    /**
+     * Returns the case, or null if the target is not of the case
+     */
+    public A getOrNull(S s) {
+        return s == null ? null : fget.apply(s);
+    }
+
+    public Optional<A> getOption(S s) {
+        return Optional.ofNullable(getOrNull(s));
+    }
+
+    public boolean matches(S s) {
+        return getOrNull(s) != null;
+    }
+
+    public S reverseGet(A a) {
+        return a == null ? null : freverse.apply(a);
+    }
+
+    /**
+     * Returns the target with the case replaced by the value, or the target itself if it is not of the case
+     */
+    public S set(S target, A value) {
+        return matches(target) ? reverseGet(value) : target;
+    }
+
+    /**
+     * Returns the target with the case modified, or the target itself if it is not of the case or the modifier
+     * returns the case itself
+     */
+    public S modify(S target, Function<A, A> modifier) {
+        var a = getOrNull(target);
+        if (a == null) {
+            return target;
+        }
+        var modified = modifier.apply(a);
+        return modified == a ? target : reverseGet(modified);
+    }
+
+    public <B> Prism<S, B> andThen(Prism<A, B> that) {
+        return path(
+                new Prism<>((S s) -> that.getOrNull(getOrNull(s)), (B b) -> reverseGet(that.reverseGet(b))),
+                this,
+                that);
+    }
+
+    /**
+     * Returns a lens focusing on the property of the case, which sets the property only if the target is of the case.
+     * Setting an empty value returns the target as is.
+     */
+    public <B> OptionalLens<S, B> andThen(Lens<A, B> that) {
+        return path(new OptionalLens<>(
+                (S s) -> {
+                    var a = getOrNull(s);
+                    return a == null ? Optional.empty() : Optional.ofNullable(that.get(a));
+                },
+                (S s, Optional<B> maybeB) -> {
+                    var a = maybeB.isPresent() ? getOrNull(s) : null;
+                    return a == null ? s : rebuild(s, a, that.set(a, maybeB.get()));
+                }), this, that);
+    }
+
+    public <B> OptionalLens<S, B> andThen(OptionalLens<A, B> that) {
+        return path(new OptionalLens<>(
+                (S s) -> {
+                    var a = getOrNull(s);
+                    return a == null ? Optional.empty() : that.getOptional(a);
+                },
+                (S s, Optional<B> maybeB) -> {
+                    var a = getOrNull(s);
+                    return a == null ? s : rebuild(s, a, that.set(a, maybeB));
+                }), this, that);
+    }
+
+    public <B> ListLens<S, B> andThen(ListLens<A, B> that) {
+        return path(new ListLens<>(
+                (S s) -> {
+                    var a = getOrNull(s);
+                    return a == null ? emptyList() : that.getList(a);
+                },
+                (S s, List<B> bs) -> {
+                    var a = getOrNull(s);
+                    return a == null ? s : rebuild(s, a, that.set(a, bs));
+                },
+                null,
+                that.parallelThreshold()), this, that);
+    }
+
+    private S rebuild(S target, A current, A updated) {
+        return updated == current ? target : reverseGet(updated);
+    }
+}
@@ -1,20 +1,53 @@
 package com.github.gerdreiss.optics.core;
 
+import static com.github.gerdreiss.optics.core.util.IterableUtils.allMatch;
 import static com.github.gerdreiss.optics.core.util.IterableUtils.zipStream;
-import static java.util.stream.Collectors.toCollection;
+import static com.github.gerdreiss.optics.core.util.QueueUtils.toMappedQueueLike;
+import static com.github.gerdreiss.optics.core.util.QueueUtils.toQueueLike;
 
-import java.util.PriorityQueue;
+import com.github.gerdreiss.optics.core.OpticsMetrics.Operation;
 import java.util.Queue;
 import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 
+/**
+ * A lens into a queue. The queues it builds keep the type, order and capacity of the queue they replace: a priority
+ * queue keeps its comparator and concurrent queues stay concurrent. A queue of a type that cannot be recreated, e.g. a
+ * {@link java.util.concurrent.DelayQueue}, is replaced by a {@link java.util.concurrent.LinkedBlockingQueue} if it is a
+ * blocking queue, and by an {@link java.util.ArrayDeque} otherwise.
+ *
+ * @param <A> The object into whose queue we want to view or update
+ * @param <B> The elements of the queue
+ */
 public class QueueLens<A, B> extends QueueView<A, B> {
 
     private final BiFunction<A, Queue<B>, A> fQueue;
+    private final BiPredicate<? super B, ? super B> unchanged;
 
     QueueLens(Function<A, Queue<B>> fget, BiFunction<A, Queue<B>, A> fQueue) {
+        this(fget, fQueue, null);
+    }
+
+    QueueLens(
+            Function<A, Queue<B>> fget,
+            BiFunction<A, Queue<B>, A> fQueue,
+            BiPredicate<? super B, ? super B> unchanged) {
         super(fget);
         this.fQueue = fQueue;
+        this.unchanged = unchanged;
+    }
+
+    QueueLens(QueueLens<A, B> lens, BiPredicate<? super B, ? super B> unchanged) {
+        super(lens);
+        this.fQueue = lens.fQueue;
+        this.unchanged = unchanged;
+    }
+
+    QueueLens(QueueLens<A, B> lens, String name, Boolean endsInTraversal) {
+        super(lens, name, endsInTraversal);
+        this.fQueue = lens.fQueue;
+        this.unchanged = lens.unchanged;
     }
 
     public static <A, B> QueueLens<A, B> of(
@@ -22,8 +55,100 @@ public class QueueLens<A, B> extends QueueView<A, B> {
         return new QueueLens<>(fget, fQueue);
     }
 
+    @Override
+    public QueueLens<A, B> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    QueueLens<A, B> renamed(String name, Boolean endsInTraversal) {
+        return new QueueLens<>(this, name, endsInTraversal);
+    }
+
+    /**
+     * Returns a lens that does not rebuild the target if the new values are the same instances as the current ones,
+     * but returns the target itself. Modifying the values returns the target if the modifier returns each value itself.
+     */
+    public QueueLens<A, B> preservingIdentity() {
+        return preservingIdentity((b1, b2) -> b1 == b2);
+    }
+
+    /**
+     * Returns a lens that does not rebuild the target if the new values are unchanged according to the given
+     * predicate, but returns the target itself
+     */
+    public QueueLens<A, B> preservingIdentity(BiPredicate<? super B, ? super B> unchanged) {
+        return new QueueLens<>(this, unchanged);
+    }
+
+    BiPredicate<? super B, ? super B> unchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Returns a lens that reports its calls to the installed {@link OpticsMetrics} under the given name. Lenses derived
+     * from it by composition report through it, other decorations of it are not instrumented.
+     */
+    public QueueLens<A, B> instrumented(String name) {
+        return instrumented(name, null);
+    }
+
+    /**
+     * Returns a lens that reports its calls to the given {@link OpticsMetrics} under the given name
+     */
+    public QueueLens<A, B> instrumented(String name, OpticsMetrics bound) {
+        var self = this;
+        return new QueueLens<>(this, unchanged) {
+            @Override
+            public Queue<B> getQueue(A a) {
+                return Instrumentation.time(
+                        bound, name, Operation.GET, () -> self.getQueue(a), result -> result.size());
+            }
+
+            @Override
+            public A set(A target, Queue<B> values) {
+                return Instrumentation.time(
+                        bound,
+                        name,
+                        Operation.SET,
+                        () -> self.set(target, values),
+                        result -> values == null ? -1 : values.size());
+            }
+
+            @Override
+            A rebuild(A target, Queue<B> values) {
+                return Instrumentation.time(
+                        bound,
+                        name,
+                        Operation.SET,
+                        () -> self.rebuild(target, values),
+                        result -> values == null ? -1 : values.size());
+            }
+
+            @Override
+            public A modify(A target, Function<B, B> modifier) {
+                return Instrumentation.time(
+                        bound,
+                        name,
+                        Operation.MODIFY,
+                        () -> self.modify(target, modifier),
+                        result -> self.getQueue(target).size());
+            }
+        };
+    }
+
+    /**
+     * Sets the values without checking the target for null or the values for changes
+     */
+    A rebuild(A target, Queue<B> values) {
+        return fQueue.apply(target, values);
+    }
+
     public A set(A target, Queue<B> values) {
-        return target == null ? null : fQueue.apply(target, values);
+        if (target == null) {
+            return null;
+        }
+        return unchanged != null && isUnchanged(getQueue(target), values) ? target : rebuild(target, values);
     }
 
     public Function<Queue<B>, A> set(A target) {
@@ -31,25 +156,71 @@ public class QueueLens<A, B> extends QueueView<A, B> {
     }
 
     public A modify(A target, Function<B, B> modifier) {
-        return set(target, getQueue(target).stream().map(modifier).collect(toCollection(PriorityQueue::new)));
+        if (unchanged == null) {
+            var values = getQueue(target);
+            return set(target, values.stream().map(modifier).collect(toQueueLike(values)));
+        }
+        if (target == null) {
+            return null;
+        }
+        var values = getQueue(target);
+        var modified = values.stream().map(modifier).collect(toQueueLike(values));
+        return isUnchanged(values, modified) ? target : rebuild(target, modified);
+    }
+
+    private boolean isUnchanged(Queue<B> values, Queue<B> updated) {
+        return values == updated || allMatch(values, updated, unchanged);
+    }
+
+    /**
+     * Sets the values the update returns for the current values, or returns the target if the update returns each
+     * current value itself
+     */
+    A rebuildIfChanged(A target, Function<Queue<B>, Queue<B>> update) {
+        if (target == null) {
+            return null;
+        }
+        var values = getQueue(target);
+        var updated = update.apply(values);
+        return allMatch(values, updated, (b1, b2) -> b1 == b2) ? target : rebuild(target, updated);
     }
 
     public <C> QueueLens<A, C> andThen(Lens<B, C> that) {
-        return QueueLens.of(
-                (A a) -> getQueue(a).stream().map(that::get).collect(toCollection(PriorityQueue::new)),
-                (A a, Queue<C> cs) -> set(a, zipStream(getQueue(a), cs)
-                        .map(entry -> that.set(entry.getKey(), entry.getValue()))
-                        .collect(toCollection(PriorityQueue::new)))
-        );
+        return path(this, that, () -> new QueueLens<>(
+                (A a) -> {
+                    var values = getQueue(a);
+                    return values.stream().map(that::get).collect(toMappedQueueLike(values));
+                },
+                that.unchanged() == null
+                        ? (A a, Queue<C> cs) -> {
+                            var values = getQueue(a);
+                            return set(a, zipStream(values, cs)
+                                    .map(entry -> that.set(entry.getKey(), entry.getValue()))
+                                    .collect(toQueueLike(values)));
+                        }
+                        : (A a, Queue<C> cs) -> rebuildIfChanged(a, bs -> zipStream(bs, cs)
+                                .map(entry -> that.set(entry.getKey(), entry.getValue()))
+                                .collect(toQueueLike(bs))),
+                that.unchanged()));
     }
 
     public <C> QueueLens<A, C> andThen(QueueLens<B, C> that) {
-        return QueueLens.of(
-                (A a) -> getQueue(a).stream()
-                        .flatMap(b -> that.getQueue(b).stream()).collect(toCollection(PriorityQueue::new)),
-                (A a, Queue<C> cs) -> set(a, getQueue(a).stream()
-                        .map(b -> that.set(b, cs))
-                        .collect(toCollection(PriorityQueue::new))));
+        return path(new QueueLens<>(
+                (A a) -> {
+                    var values = getQueue(a);
+                    return values.stream()
+                            .flatMap(b -> that.getQueue(b).stream())
+                            .collect(toMappedQueueLike(values));
+                },
+                that.unchanged() == null
+                        ? (A a, Queue<C> cs) -> {
+                            var values = getQueue(a);
+                            return set(a, values.stream().map(b -> that.set(b, cs)).collect(toQueueLike(values)));
+                        }
+                        : (A a, Queue<C> cs) -> rebuildIfChanged(a, bs -> bs.stream()
+                                .map(b -> that.set(b, cs))
+                                .collect(toQueueLike(bs))),
+                that.unchanged()), this, that);
     }
 
     public <C> QueueLens<C, B> compose(Lens<C, A> that) {
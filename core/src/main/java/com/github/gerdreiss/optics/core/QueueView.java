@@ -15,15 +15,18 @@
  */
 package com.github.gerdreiss.optics.core;
 
-import static java.util.stream.Collectors.toCollection;
+import static com.github.gerdreiss.optics.core.util.QueueUtils.toMappedQueueLike;
+import static com.github.gerdreiss.optics.core.util.QueueUtils.toQueueLike;
 
+import com.github.gerdreiss.optics.core.OpticsMetrics.Operation;
+import com.github.gerdreiss.optics.core.util.IterableUtils;
+import com.github.gerdreiss.optics.core.util.QueueUtils;
 import java.util.Optional;
-import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-public class QueueView<A, B> implements Function<A, Queue<B>> {
+public class QueueView<A, B> extends Optic implements Function<A, Queue<B>> {
 
     private final Function<A, Queue<B>> fget;
 
@@ -31,61 +34,124 @@ public class QueueView<A, B> implements Function<A, Queue<B>> {
         this.fget = fget;
     }
 
+    QueueView(QueueView<A, B> view) {
+        super(view);
+        this.fget = view.fget;
+    }
+
+    QueueView(QueueView<A, B> view, String name, Boolean endsInTraversal) {
+        super(name, endsInTraversal);
+        this.fget = view.fget;
+    }
+
     public static <A, B> QueueView<A, B> of(final Function<A, Queue<B>> fget) {
         return new QueueView<>(fget);
     }
 
+    /**
+     * Returns a copy of this view with the given name, which also names the paths of the optics composed of it
+     */
+    public QueueView<A, B> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    QueueView<A, B> renamed(String name, Boolean endsInTraversal) {
+        return new QueueView<>(this, name, endsInTraversal);
+    }
+
+    @Override
+    boolean isTraversal() {
+        return true;
+    }
+
     @Override
     public Queue<B> apply(A a) {
         return getQueue(a);
     }
 
     public Queue<B> getQueue(A a) {
-        return a == null ? new PriorityQueue<>() : fget.apply(a);
+        return a == null ? QueueUtils.empty() : fget.apply(a);
     }
 
     public Optional<B> getFirst(A a) {
-        return a == null ? Optional.empty() : fget.apply(a).stream().findFirst();
+        return getQueue(a).stream().findFirst();
     }
 
     public Optional<B> getLast(A a) {
-        return a == null
-                ? Optional.empty()
-                : fget.apply(a).stream().reduce((first, second) -> second);
+        return getQueue(a).stream().reduce((first, second) -> second);
     }
 
     public Optional<B> getAt(A a, int n) {
-        return a == null ? Optional.empty() : fget.apply(a).stream().skip(n).findFirst();
+        return getQueue(a).stream().skip(n).findFirst();
     }
 
     public Queue<B> findAll(A a, Predicate<B> predicate) {
-        return a == null
-                ? new PriorityQueue<>()
-                : fget.apply(a).stream()
-                        .filter(predicate)
-                        .collect(toCollection(PriorityQueue::new));
+        var values = getQueue(a);
+        return values.stream().filter(predicate).collect(toQueueLike(values));
     }
 
     public Optional<B> findFirst(A a, Predicate<B> predicate) {
-        return findAll(a, predicate).stream().findFirst();
+        return IterableUtils.findFirst(getQueue(a), predicate);
+    }
+
+    public Optional<B> findAny(A a, Predicate<B> predicate) {
+        return getQueue(a).stream().filter(predicate).findAny();
+    }
+
+    public boolean exists(A a, Predicate<B> predicate) {
+        return IterableUtils.exists(getQueue(a), predicate);
+    }
+
+    public boolean forAll(A a, Predicate<B> predicate) {
+        return IterableUtils.forAll(getQueue(a), predicate);
+    }
+
+    public long count(A a, Predicate<B> predicate) {
+        return IterableUtils.count(getQueue(a), predicate);
+    }
+
+    /**
+     * Returns a view that reports its calls to the installed {@link OpticsMetrics} under the given name. Views derived
+     * from it by composition report through it, other decorations of it are not instrumented.
+     */
+    public QueueView<A, B> instrumented(String name) {
+        return instrumented(name, null);
+    }
+
+    /**
+     * Returns a view that reports its calls to the given {@link OpticsMetrics} under the given name
+     */
+    public QueueView<A, B> instrumented(String name, OpticsMetrics bound) {
+        var self = this;
+        return new QueueView<>(this) {
+            @Override
+            public Queue<B> getQueue(A a) {
+                return Instrumentation.time(
+                        bound, name, Operation.GET, () -> self.getQueue(a), result -> result.size());
+            }
+        };
     }
 
     public <C> QueueView<A, C> andThen(final View<B, C> that) {
-        return QueueView.of((A a) -> getQueue(a).stream()
-                .map(that::get)
-                .collect(toCollection(PriorityQueue::new)));
+        return path(this, that, () -> QueueView.of((A a) -> {
+            var values = getQueue(a);
+            return values.stream().map(that::get).collect(toMappedQueueLike(values));
+        }));
     }
 
     public <C> QueueView<A, Optional<C>> andThen(final OptionalView<B, C> that) {
-        return QueueView.of((A a) -> getQueue(a).stream()
-                .map(that::getOptional)
-                .collect(toCollection(PriorityQueue::new)));
+        return path(QueueView.of((A a) -> {
+            var values = getQueue(a);
+            return values.stream().map(that::getOptional).collect(toMappedQueueLike(values));
+        }), this, that);
     }
 
     public <C> QueueView<A, C> andThen(final QueueView<B, C> that) {
-        return QueueView.of((A a) -> getQueue(a).stream()
-                .flatMap(b -> that.getQueue(b).stream())
-                .collect(toCollection(PriorityQueue::new)));
+        return path(QueueView.of((A a) -> {
+            var values = getQueue(a);
+            return values.stream().flatMap(b -> that.getQueue(b).stream()).collect(toMappedQueueLike(values));
+        }), this, that);
     }
 
     public <C> QueueView<C, B> compose(final View<C, A> that) {
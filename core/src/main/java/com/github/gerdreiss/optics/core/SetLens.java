@@ -3,17 +3,41 @@ package com.github.gerdreiss.optics.core;
 import static com.github.gerdreiss.optics.core.util.IterableUtils.zipStream;
 import static java.util.stream.Collectors.toSet;
 
+import com.github.gerdreiss.optics.core.OpticsMetrics.Operation;
+import java.util.HashMap;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 
 public class SetLens<A, B> extends SetView<A, B> {
 
     private final BiFunction<A, Set<B>, A> fset;
+    private final BiPredicate<? super B, ? super B> unchanged;
 
     SetLens(Function<A, Set<B>> fget, BiFunction<A, Set<B>, A> fset) {
+        this(fget, fset, null);
+    }
+
+    SetLens(
+            Function<A, Set<B>> fget,
+            BiFunction<A, Set<B>, A> fset,
+            BiPredicate<? super B, ? super B> unchanged) {
         super(fget);
         this.fset = fset;
+        this.unchanged = unchanged;
+    }
+
+    SetLens(SetLens<A, B> lens, BiPredicate<? super B, ? super B> unchanged) {
+        super(lens);
+        this.fset = lens.fset;
+        this.unchanged = unchanged;
+    }
+
+    SetLens(SetLens<A, B> lens, String name, Boolean endsInTraversal) {
+        super(lens, name, endsInTraversal);
+        this.fset = lens.fset;
+        this.unchanged = lens.unchanged;
     }
 
     public static <A, B> SetLens<A, B> of(
@@ -21,12 +45,103 @@ public class SetLens<A, B> extends SetView<A, B> {
         return new SetLens<>(fget, fset);
     }
 
+    @Override
+    public SetLens<A, B> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    SetLens<A, B> renamed(String name, Boolean endsInTraversal) {
+        return new SetLens<>(this, name, endsInTraversal);
+    }
+
+    /**
+     * Returns a lens that does not rebuild the target if the new values are the same instances as the current ones,
+     * but returns the target itself. Modifying the values returns the target if the modifier returns each value itself.
+     */
+    public SetLens<A, B> preservingIdentity() {
+        return preservingIdentity((b1, b2) -> b1 == b2);
+    }
+
+    /**
+     * Returns a lens that does not rebuild the target if the new values are unchanged according to the given
+     * predicate, but returns the target itself
+     */
+    public SetLens<A, B> preservingIdentity(BiPredicate<? super B, ? super B> unchanged) {
+        return new SetLens<>(this, unchanged);
+    }
+
+    BiPredicate<? super B, ? super B> unchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Returns a lens that reports its calls to the installed {@link OpticsMetrics} under the given name. Lenses derived
+     * from it by composition report through it, other decorations of it are not instrumented.
+     */
+    public SetLens<A, B> instrumented(String name) {
+        return instrumented(name, null);
+    }
+
+    /**
+     * Returns a lens that reports its calls to the given {@link OpticsMetrics} under the given name
+     */
+    public SetLens<A, B> instrumented(String name, OpticsMetrics bound) {
+        var self = this;
+        return new SetLens<>(this, unchanged) {
+            @Override
+            public Set<B> getSet(A a) {
+                return Instrumentation.time(bound, name, Operation.GET, () -> self.getSet(a), result -> result.size());
+            }
+
+            @Override
+            public A set(A target, Set<B> values) {
+                return Instrumentation.time(
+                        bound,
+                        name,
+                        Operation.SET,
+                        () -> self.set(target, values),
+                        result -> values == null ? -1 : values.size());
+            }
+
+            @Override
+            A rebuild(A target, Set<B> values) {
+                return Instrumentation.time(
+                        bound,
+                        name,
+                        Operation.SET,
+                        () -> self.rebuild(target, values),
+                        result -> values == null ? -1 : values.size());
+            }
+
+            @Override
+            public A modify(A target, Function<B, B> modifier) {
+                return Instrumentation.time(
+                        bound,
+                        name,
+                        Operation.MODIFY,
+                        () -> self.modify(target, modifier),
+                        result -> self.getSet(target).size());
+            }
+        };
+    }
+
+    /**
+     * Sets the values without checking the target for null or the values for changes
+     */
+    A rebuild(A target, Set<B> values) {
+        return fset.apply(target, values);
+    }
+
     public A set(A target, Set<B> values) {
-        return target == null ? null : fset.apply(target, values);
+        if (target == null) {
+            return null;
+        }
+        return unchanged != null && isUnchanged(getSet(target), values) ? target : rebuild(target, values);
     }
 
     public A set(A target, B value) {
-        return target == null ? null : fset.apply(target, Set.of(value));
+        return target == null ? null : set(target, Set.of(value));
     }
 
     public Function<Set<B>, A> set(A target) {
@@ -34,22 +149,78 @@ public class SetLens<A, B> extends SetView<A, B> {
     }
 
     public A modify(A target, Function<B, B> modifier) {
-        return set(target, getSet(target).stream().map(modifier).collect(toSet()));
+        if (unchanged == null) {
+            return set(target, getSet(target).stream().map(modifier).collect(toSet()));
+        }
+        if (target == null) {
+            return null;
+        }
+        var values = getSet(target);
+        var modified = values.stream().map(modifier).collect(toSet());
+        return isUnchanged(values, modified) ? target : rebuild(target, modified);
+    }
+
+    private boolean isUnchanged(Set<B> values, Set<B> updated) {
+        return values == updated || allMatchByElement(values, updated, unchanged);
+    }
+
+    /**
+     * Tests whether both sets have the same size and each updated element matches the current element it equals. The
+     * elements are matched by lookup rather than by position, since a set collected anew iterates in another order.
+     */
+    private static <B> boolean allMatchByElement(
+            Set<B> values, Set<B> updated, BiPredicate<? super B, ? super B> predicate) {
+        if (values.size() != updated.size()) {
+            return false;
+        }
+        var current = new HashMap<B, B>(values.size() * 4 / 3 + 1);
+        for (var value : values) {
+            current.put(value, value);
+        }
+        for (var value : updated) {
+            var match = current.get(value);
+            if ((match == null && !current.containsKey(value)) || !predicate.test(match, value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sets the values the update returns for the current values, or returns the target if the update returns each
+     * current value itself
+     */
+    A rebuildIfChanged(A target, Function<Set<B>, Set<B>> update) {
+        if (target == null) {
+            return null;
+        }
+        var values = getSet(target);
+        var updated = update.apply(values);
+        return allMatchByElement(values, updated, (b1, b2) -> b1 == b2) ? target : rebuild(target, updated);
     }
 
     public <C> SetLens<A, C> andThen(Lens<B, C> that) {
-        return SetLens.of(
+        return path(this, that, () -> new SetLens<>(
                 (A a) -> getSet(a).stream().map(that::get).collect(toSet()),
-                (A a, Set<C> cs) -> set(a, zipStream(getSet(a), cs)
-                        .map(entry -> that.set(entry.getKey(), entry.getValue()))
-                        .collect(toSet()))
-        );
+                that.unchanged() == null
+                        ? (A a, Set<C> cs) -> set(a, zipStream(getSet(a), cs)
+                                .map(entry -> that.set(entry.getKey(), entry.getValue()))
+                                .collect(toSet()))
+                        : (A a, Set<C> cs) -> rebuildIfChanged(a, bs -> zipStream(bs, cs)
+                                .map(entry -> that.set(entry.getKey(), entry.getValue()))
+                                .collect(toSet())),
+                that.unchanged()));
     }
 
     public <C> SetLens<A, C> andThen(SetLens<B, C> that) {
-        return SetLens.of(
+        return path(new SetLens<>(
                 (A a) -> getSet(a).stream().flatMap(b -> that.getSet(b).stream()).collect(toSet()),
-                (A a, Set<C> cs) -> set(a, getSet(a).stream().map(b -> that.set(b, cs)).collect(toSet())));
+                that.unchanged() == null
+                        ? (A a, Set<C> cs) -> set(a, getSet(a).stream().map(b -> that.set(b, cs)).collect(toSet()))
+                        : (A a, Set<C> cs) -> rebuildIfChanged(a, bs -> bs.stream()
+                                .map(b -> that.set(b, cs))
+                                .collect(toSet())),
+                that.unchanged()), this, that);
     }
 
     public <C> SetLens<C, B> compose(Lens<C, A> that) {
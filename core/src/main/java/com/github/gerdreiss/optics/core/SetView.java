@@ -17,6 +17,8 @@ package com.github.gerdreiss.optics.core;
 
 import static java.util.stream.Collectors.toSet;
 
+import com.github.gerdreiss.optics.core.OpticsMetrics.Operation;
+import com.github.gerdreiss.optics.core.util.IterableUtils;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
@@ -24,7 +26,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-public class SetView<A, B> implements Function<A, Set<B>> {
+public class SetView<A, B> extends Optic implements Function<A, Set<B>> {
 
     private final Function<A, Set<B>> fget;
 
@@ -32,10 +34,37 @@ public class SetView<A, B> implements Function<A, Set<B>> {
         this.fget = fget;
     }
 
+    SetView(SetView<A, B> view) {
+        super(view);
+        this.fget = view.fget;
+    }
+
+    SetView(SetView<A, B> view, String name, Boolean endsInTraversal) {
+        super(name, endsInTraversal);
+        this.fget = view.fget;
+    }
+
     public static <A, B> SetView<A, B> of(final Function<A, Set<B>> fget) {
         return new SetView<>(fget);
     }
 
+    /**
+     * Returns a copy of this view with the given name, which also names the paths of the optics composed of it
+     */
+    public SetView<A, B> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    SetView<A, B> renamed(String name, Boolean endsInTraversal) {
+        return new SetView<>(this, name, endsInTraversal);
+    }
+
+    @Override
+    boolean isTraversal() {
+        return true;
+    }
+
     @Override
     public Set<B> apply(A a) {
         return getSet(a);
@@ -46,7 +75,7 @@ public class SetView<A, B> implements Function<A, Set<B>> {
     }
 
     public Stream<B> getStream(A a) {
-        return a == null ? Stream.empty() : fget.apply(a).stream();
+        return getSet(a).stream();
     }
 
     public Optional<B> getFirst(A a) {
@@ -66,21 +95,58 @@ public class SetView<A, B> implements Function<A, Set<B>> {
     }
 
     public Optional<B> findFirst(A a, Predicate<B> predicate) {
-        return findAll(a, predicate).stream().findFirst();
+        return IterableUtils.findFirst(getSet(a), predicate);
+    }
+
+    public Optional<B> findAny(A a, Predicate<B> predicate) {
+        return getSet(a).stream().filter(predicate).findAny();
+    }
+
+    public boolean exists(A a, Predicate<B> predicate) {
+        return IterableUtils.exists(getSet(a), predicate);
+    }
+
+    public boolean forAll(A a, Predicate<B> predicate) {
+        return IterableUtils.forAll(getSet(a), predicate);
+    }
+
+    public long count(A a, Predicate<B> predicate) {
+        return IterableUtils.count(getSet(a), predicate);
+    }
+
+    /**
+     * Returns a view that reports its calls to the installed {@link OpticsMetrics} under the given name. Views derived
+     * from it by composition report through it, other decorations of it are not instrumented.
+     */
+    public SetView<A, B> instrumented(String name) {
+        return instrumented(name, null);
+    }
+
+    /**
+     * Returns a view that reports its calls to the given {@link OpticsMetrics} under the given name
+     */
+    public SetView<A, B> instrumented(String name, OpticsMetrics bound) {
+        var self = this;
+        return new SetView<>(this) {
+            @Override
+            public Set<B> getSet(A a) {
+                return Instrumentation.time(bound, name, Operation.GET, () -> self.getSet(a), result -> result.size());
+            }
+        };
     }
 
     public <C> SetView<A, C> andThen(final View<B, C> that) {
-        return SetView.of((A a) -> getSet(a).stream().map(that::get).collect(toSet()));
+        return path(this, that, () -> SetView.of((A a) -> getSet(a).stream().map(that::get).collect(toSet())));
     }
 
     public <C> SetView<A, Optional<C>> andThen(final OptionalView<B, C> that) {
-        return SetView.of((A a) -> getSet(a).stream().map(that::getOptional).collect(toSet()));
+        return path(SetView.of((A a) -> getSet(a).stream().map(that::getOptional).collect(toSet())), this, that);
     }
 
     public <C> SetView<A, C> andThen(final SetView<B, C> that) {
-        return SetView.of((A a) -> getSet(a).stream()
+        return path(SetView.of((A a) -> getSet(a).stream()
                 .flatMap(b -> that.getSet(b).stream())
-                .collect(toSet()));
+                .collect(toSet())), this, that);
     }
 
     public <C> SetView<C, B> compose(final View<C, A> that) {
@@ -16,6 +16,7 @@
 package com.github.gerdreiss.optics.core;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -27,7 +28,7 @@ import java.util.stream.Stream;
  * @param <A> The object into whose property we want to view
  * @param <B> The object property which we want to view
  */
-public class StreamView<A, B> implements Function<A, Stream<B>> {
+public class StreamView<A, B> extends Optic implements Function<A, Stream<B>> {
 
     private final Function<A, Stream<B>> fget;
 
@@ -35,10 +36,32 @@ public class StreamView<A, B> implements Function<A, Stream<B>> {
         this.fget = fget;
     }
 
+    StreamView(StreamView<A, B> view, String name, Boolean endsInTraversal) {
+        super(name, endsInTraversal);
+        this.fget = view.fget;
+    }
+
     public static <A, B> StreamView<A, B> of(final Function<A, Stream<B>> fget) {
         return new StreamView<>(fget);
     }
 
+    /**
+     * Returns a copy of this view with the given name, which also names the paths of the optics composed of it
+     */
+    public StreamView<A, B> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    StreamView<A, B> renamed(String name, Boolean endsInTraversal) {
+        return new StreamView<>(this, name, endsInTraversal);
+    }
+
+    @Override
+    boolean isTraversal() {
+        return true;
+    }
+
     @Override
     public Stream<B> apply(A a) {
         return getStream(a);
@@ -48,36 +71,86 @@ public class StreamView<A, B> implements Function<A, Stream<B>> {
         return a == null ? Stream.empty() : fget.apply(a);
     }
 
+    /**
+     * Returns a view whose streams are parallel. The views composed after it map the stream in parallel, and the
+     * traversals keep the encounter order of ordered sources.
+     */
+    public StreamView<A, B> parallel() {
+        return rename(StreamView.of((A a) -> getStream(a).parallel()), name());
+    }
+
     public Optional<B> getFirst(A a) {
-        return a == null ? Optional.empty() : fget.apply(a).findFirst();
+        return terminal(a, "StreamView.getFirst", Stream::findFirst);
     }
 
     public Optional<B> getLast(A a) {
-        return a == null ? Optional.empty() : fget.apply(a).reduce((first, second) -> second);
+        return terminal(a, "StreamView.getLast", stream -> stream.reduce((first, second) -> second));
     }
 
     public Optional<B> getAt(A a, int n) {
-        return a == null ? Optional.empty() : fget.apply(a).skip(n).findFirst();
+        return terminal(a, "StreamView.getAt", stream -> stream.skip(n).findFirst());
     }
 
     public Stream<B> find(A a, Predicate<B> predicate) {
-        return a == null ? Stream.empty() : fget.apply(a).filter(predicate);
+        return getStream(a).filter(predicate);
     }
 
     public Optional<B> findFirst(A a, Predicate<B> predicate) {
-        return find(a, predicate).findFirst();
+        return terminal(a, "StreamView.findFirst", stream -> stream.filter(predicate).findFirst());
+    }
+
+    public Optional<B> findAny(A a, Predicate<B> predicate) {
+        return terminal(a, "StreamView.findAny", stream -> stream.filter(predicate).findAny());
+    }
+
+    public boolean exists(A a, Predicate<B> predicate) {
+        return terminal(a, "StreamView.exists", stream -> stream.anyMatch(predicate));
+    }
+
+    public boolean forAll(A a, Predicate<B> predicate) {
+        return terminal(a, "StreamView.forAll", stream -> stream.allMatch(predicate));
+    }
+
+    public long count(A a, Predicate<B> predicate) {
+        return terminal(a, "StreamView.count", stream -> stream.filter(predicate).count());
+    }
+
+    /**
+     * Runs a terminal operation on the stream, counting the elements it pulls if the {@link OpticEvent} is enabled
+     */
+    private <R> R terminal(A a, String operation, Function<Stream<B>, R> terminal) {
+        var event = OpticEvents.start();
+        if (event == null) {
+            return terminal.apply(getStream(a));
+        }
+        var elements = new LongAdder();
+        var result = terminal.apply(getStream(a).peek(b -> elements.increment()));
+        OpticEvents.end(event, this, operation, elements.sum());
+        return result;
     }
 
     public <C> StreamView<A, C> andThen(final View<B, C> that) {
-        return StreamView.of((A a) -> getStream(a).map(that::get));
+        return path(this, that, () -> StreamView.of((A a) -> getStream(a).map(that::get)));
     }
 
     public <C> StreamView<A, C> andThen(final OptionalView<B, C> that) {
-        return StreamView.of((A a) -> getStream(a).flatMap(b -> that.getOptional(b).stream()));
+        return path(StreamView.of((A a) -> getStream(a).flatMap(b -> that.getOptional(b).stream())), this, that);
     }
 
     public <C> StreamView<A, C> andThen(final StreamView<B, C> that) {
-        return StreamView.of((A a) -> getStream(a).flatMap(that::getStream));
+        return path(StreamView.of((A a) -> getStream(a).flatMap(that::getStream)), this, that);
+    }
+
+    public IntStreamView<A> andThen(final IntView<B> that) {
+        return path(new IntStreamView<>((A a) -> getStream(a).mapToInt(that::get)), this, that);
+    }
+
+    public LongStreamView<A> andThen(final LongView<B> that) {
+        return path(new LongStreamView<>((A a) -> getStream(a).mapToLong(that::get)), this, that);
+    }
+
+    public DoubleStreamView<A> andThen(final DoubleView<B> that) {
+        return path(new DoubleStreamView<>((A a) -> getStream(a).mapToDouble(that::get)), this, that);
     }
 
     public <C> StreamView<C, B> compose(final View<C, A> that) {
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * An update of several properties of the same target, which is applied in a single pass. The updates are grouped by
+ * the lenses their paths start with, so an object on the shared part of the paths is read once, and rebuilt once for
+ * each of its properties that changes. The lenses of a path are the ones it was composed of, so the paths of lenses
+ * composed with the same lens instances share a prefix.
+ *
+ * <p>An object whose type has a constructor registered with {@link #rebuilding} is rebuilt once however many of its
+ * properties change: the constructor is called with the new values of the changed properties, and the current values
+ * of the other ones.
+ *
+ * <p>The updates of a property and of the properties below it are applied in the order in which they were added.
+ * Different lenses at the same level of the paths are assumed to focus on different properties. An update that leaves
+ * an object unchanged returns it as is, so an update that changes nothing returns the target itself.
+ *
+ * @param <A> The object whose properties we want to update
+ */
+public final class Update<A> implements UnaryOperator<A> {
+
+    private static final Update<Object> EMPTY = new Update<>(new Step[0], Map.of());
+
+    private final Step[] steps;
+    private final Map<Class<?>, Function<Fields<?>, ?>> constructors;
+
+    private Update(Step[] steps, Map<Class<?>, Function<Fields<?>, ?>> constructors) {
+        this.steps = steps;
+        this.constructors = constructors;
+    }
+
+    /**
+     * The properties of an object that is rebuilt by a constructor registered with {@link #rebuilding}
+     *
+     * @param <T> The type of the object
+     */
+    public interface Fields<T> {
+
+        /**
+         * Returns the new value of the property of the lens if the update changes it, or else its current value
+         */
+        <B> B get(Lens<T, B> lens);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> Update<A> of() {
+        return (Update<A>) EMPTY;
+    }
+
+    /**
+     * Returns an update that also sets the value of the lens
+     */
+    public <B> Update<A> set(Lens<A, B> lens, B value) {
+        return with(lens, (Object b) -> value);
+    }
+
+    /**
+     * Returns an update that also modifies the value of the lens
+     */
+    @SuppressWarnings("unchecked")
+    public <B> Update<A> modify(Lens<A, B> lens, Function<B, B> modifier) {
+        return with(lens, (Function<Object, Object>) modifier);
+    }
+
+    /**
+     * Returns an update that rebuilds the objects of the given type with the given constructor, once for all of their
+     * properties that change, instead of once for each through the setters of the lenses
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Update<A> rebuilding(Class<T> type, Function<Fields<T>, T> constructor) {
+        var updated = new HashMap<>(constructors);
+        updated.put(type, (Function<Fields<?>, ?>) (Function<?, ?>) constructor);
+        return new Update<>(steps, Map.copyOf(updated));
+    }
+
+    private Update<A> with(Lens<?, ?> lens, Function<Object, Object> modifier) {
+        var updated = Arrays.copyOf(steps, steps.length + 1);
+        updated[steps.length] = new Step(ComposedLens.pathOf(lens), modifier);
+        return new Update<>(updated, constructors);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public A apply(A target) {
+        if (steps.length == 0) {
+            return target;
+        }
+        var event = OpticEvents.start();
+        var result = (A) update(target, Arrays.asList(steps), 0, constructors);
+        OpticEvents.end(event, this, "Update.apply", steps.length);
+        return result;
+    }
+
+    /**
+     * Applies the steps, whose paths are longer than the given depth, grouped by the lens at that depth. The changed
+     * properties are set one after the other, or all at once by the constructor of the type of the target.
+     */
+    private static Object update(
+            Object target, List<Step> steps, int depth, Map<Class<?>, Function<Fields<?>, ?>> constructors) {
+        if (target == null) {
+            return null;
+        }
+        var lenses = new ArrayList<Lens<Object, Object>>();
+        var values = new ArrayList<Object>();
+        var applied = new boolean[steps.size()];
+        for (int i = 0; i < steps.size(); i++) {
+            if (applied[i]) {
+                continue;
+            }
+            var lens = steps.get(i).path[depth];
+            var group = new ArrayList<Step>();
+            for (int j = i; j < steps.size(); j++) {
+                if (!applied[j] && steps.get(j).path[depth] == lens) {
+                    group.add(steps.get(j));
+                    applied[j] = true;
+                }
+            }
+            var current = lens.get(target);
+            var value = updateValue(current, group, depth, constructors);
+            if (value != current) {
+                lenses.add(lens);
+                values.add(value);
+            }
+        }
+        if (lenses.isEmpty()) {
+            return target;
+        }
+        var constructor = lenses.size() > 1 ? constructors.get(target.getClass()) : null;
+        if (constructor != null) {
+            return constructor.apply(new Fields<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <B> B get(Lens<Object, B> lens) {
+                    var index = lenses.indexOf(lens);
+                    return index < 0 ? lens.get(target) : (B) values.get(index);
+                }
+            });
+        }
+        var result = target;
+        for (int i = 0; i < lenses.size(); i++) {
+            result = lenses.get(i).set(result, values.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value of the lens with the steps whose paths have the lens at the given depth applied to it. The
+     * steps that end with the lens modify the value, the consecutive steps between them that go deeper are applied to
+     * the value together.
+     */
+    private static Object updateValue(
+            Object current, List<Step> group, int depth, Map<Class<?>, Function<Fields<?>, ?>> constructors) {
+        var value = current;
+        var deeper = new ArrayList<Step>();
+        for (var step : group) {
+            if (step.path.length == depth + 1) {
+                if (!deeper.isEmpty()) {
+                    value = update(value, deeper, depth + 1, constructors);
+                    deeper.clear();
+                }
+                value = step.modifier.apply(value);
+            } else {
+                deeper.add(step);
+            }
+        }
+        if (!deeper.isEmpty()) {
+            value = update(value, deeper, depth + 1, constructors);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        var paths = new ArrayList<String>(steps.length);
+        for (var step : steps) {
+            var names = new ArrayList<String>(step.path.length);
+            for (var lens : step.path) {
+                names.add(lens.name() == null ? "?" : lens.name());
+            }
+            paths.add(String.join(".", names));
+        }
+        return "Update" + paths;
+    }
+
+    private static final class Step {
+
+        final Lens<Object, Object>[] path;
+        final Function<Object, Object> modifier;
+
+        Step(Lens<Object, Object>[] path, Function<Object, Object> modifier) {
+            this.path = path;
+            this.modifier = modifier;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * A list lens over a {@link PersistentVector}, created by {@link ListLens#ofVector}. Updating or appending a single
+ * element takes O(log n) time and shares the structure of the vector, instead of copying the list. The lists given to
+ * its setter, including the ones built by the lenses composed after it, are converted into vectors.
+ *
+ * @param <A> The object into whose property we want to view or update
+ * @param <B> The type of the elements of the vector
+ */
+public class VectorLens<A, B> extends ListLens<A, B> {
+
+    VectorLens(
+            Function<A, PersistentVector<B>> fget,
+            BiFunction<A, PersistentVector<B>, A> fset,
+            BiPredicate<? super B, ? super B> unchanged) {
+        super(fget::apply, (A a, List<B> values) -> fset.apply(a, PersistentVector.ofAll(values)), unchanged);
+    }
+
+    VectorLens(VectorLens<A, B> lens, BiPredicate<? super B, ? super B> unchanged, int parallelThreshold) {
+        super(lens, unchanged, parallelThreshold);
+    }
+
+    VectorLens(VectorLens<A, B> lens, String name, Boolean endsInTraversal) {
+        super(lens, name, endsInTraversal);
+    }
+
+    @Override
+    public VectorLens<A, B> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    VectorLens<A, B> renamed(String name, Boolean endsInTraversal) {
+        return new VectorLens<>(this, name, endsInTraversal);
+    }
+
+    @Override
+    public VectorLens<A, B> preservingIdentity() {
+        return preservingIdentity((b1, b2) -> b1 == b2);
+    }
+
+    @Override
+    public VectorLens<A, B> preservingIdentity(BiPredicate<? super B, ? super B> unchanged) {
+        return new VectorLens<>(this, unchanged, parallelThreshold());
+    }
+
+    @Override
+    public VectorLens<A, B> parallel(int threshold) {
+        return new VectorLens<>(this, unchanged(), checkThreshold(threshold));
+    }
+
+    public PersistentVector<B> getVector(A a) {
+        return PersistentVector.ofAll(getList(a));
+    }
+
+    /**
+     * Appends the value to the vector
+     */
+    public A append(A target, B value) {
+        return target == null ? null : set(target, getVector(target).append(value));
+    }
+}
@@ -15,6 +15,8 @@
  */
 package com.github.gerdreiss.optics.core;
 
+import com.github.gerdreiss.optics.core.OpticsMetrics.Operation;
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -24,7 +26,7 @@ import java.util.function.Function;
  * @param <A> The object into whose property we want to view
  * @param <B> The object property which we want to view
  */
-public class View<A, B> implements Function<A, B> {
+public class View<A, B> extends Optic implements Function<A, B> {
 
     private final Function<A, B> fget;
 
@@ -32,10 +34,36 @@ public class View<A, B> implements Function<A, B> {
         this.fget = fget;
     }
 
+    View(View<A, B> view) {
+        super(view);
+        this.fget = view.fget;
+    }
+
+    View(View<A, B> view, String name, Boolean endsInTraversal) {
+        super(name, endsInTraversal);
+        this.fget = view.fget;
+    }
+
     public static <A, B> View<A, B> of(Function<A, B> fget) {
         return new View<>(fget);
     }
 
+    public static <A, B> View<A, B> of(String name, Function<A, B> fget) {
+        return rename(new View<>(fget), name);
+    }
+
+    /**
+     * Returns a copy of this view with the given name, which also names the paths of the optics composed of it
+     */
+    public View<A, B> named(String name) {
+        return renamed(name, null);
+    }
+
+    @Override
+    View<A, B> renamed(String name, Boolean endsInTraversal) {
+        return new View<>(this, name, endsInTraversal);
+    }
+
     @Override
     public B apply(A a) {
         return get(a);
@@ -45,36 +73,121 @@ public class View<A, B> implements Function<A, B> {
         return a == null ? null : fget.apply(a);
     }
 
+    /**
+     * Returns a view that caches the values of up to the given number of targets, keyed by their identity and evicting
+     * the least recently used one
+     */
+    public View<A, B> memoized(int maxSize) {
+        return memoized(IdentityCache.of(maxSize));
+    }
+
+    /**
+     * Returns a view that caches the values in the given cache, which also counts the cache hits and misses
+     */
+    public View<A, B> memoized(IdentityCache<A, B> cache) {
+        return rename(new View<>((A a) -> cache.computeIfAbsent(a, this::get)), name());
+    }
+
+    /**
+     * Returns the values of the given targets, in order
+     */
+    public List<B> getAll(List<A> targets) {
+        return getAll(targets, ListView.SEQUENTIAL);
+    }
+
+    /**
+     * Returns the values of the given targets, in order. Batches of at least the given size are read in parallel.
+     */
+    public List<B> getAll(List<A> targets, int parallelThreshold) {
+        return Batches.map(targets, this::get, parallelThreshold);
+    }
+
+    /**
+     * Writes the values of the given targets into the output array, which must be at least as long as the input
+     */
+    public void getInto(A[] targets, B[] values) {
+        getInto(targets, values, ListView.SEQUENTIAL);
+    }
+
+    public void getInto(A[] targets, B[] values, int parallelThreshold) {
+        Batches.mapInto(targets, values, this::get, parallelThreshold);
+    }
+
+    /**
+     * Returns a view that reports its calls to the installed {@link OpticsMetrics} under the given name. Views derived
+     * from it by composition report through it, other decorations of it are not instrumented.
+     */
+    public View<A, B> instrumented(String name) {
+        return instrumented(name, null);
+    }
+
+    /**
+     * Returns a view that reports its calls to the given {@link OpticsMetrics} under the given name
+     */
+    public View<A, B> instrumented(String name, OpticsMetrics bound) {
+        var self = this;
+        return new View<>(this) {
+            @Override
+            public B get(A a) {
+                return Instrumentation.time(bound, name, Operation.GET, () -> self.get(a));
+            }
+        };
+    }
+
     public <C> View<A, C> andThen(View<B, C> that) {
-        return new View<>((A a) -> that.get(get(a)));
+        return path(this, that, () -> new View<>((A a) -> that.get(get(a))));
     }
 
     public <C> OptionalView<A, C> andThen(OptionalView<B, C> that) {
-        return new OptionalView<>((A a) -> that.getOptional(get(a)));
+        return path(new OptionalView<>((A a) -> that.getOptional(get(a))), this, that);
     }
 
     public <C> StreamView<A, C> andThen(StreamView<B, C> that) {
-        return StreamView.of((A a) -> that.getStream(get(a)));
+        return path(StreamView.of((A a) -> that.getStream(get(a))), this, that);
     }
 
     public <C> CollectionView<A, C> andThen(CollectionView<B, C> that) {
-        return CollectionView.of((A a) -> that.getCollection(get(a)));
+        return path(new CollectionView<>((A a) -> that.getCollection(get(a)), that.parallelThreshold()), this, that);
     }
 
     public <C> ListView<A, C> andThen(ListView<B, C> that) {
-        return ListView.of((A a) -> that.getList(get(a)));
+        return path(new ListView<>((A a) -> that.getList(get(a)), that.parallelThreshold()), this, that);
     }
 
     public <C> SetView<A, C> andThen(SetView<B, C> that) {
-        return SetView.of((A a) -> that.getSet(get(a)));
+        return path(SetView.of((A a) -> that.getSet(get(a))), this, that);
     }
 
     public <C> QueueView<A, C> andThen(QueueView<B, C> that) {
-        return QueueView.of((A a) -> that.getQueue(get(a)));
+        return path(QueueView.of((A a) -> that.getQueue(get(a))), this, that);
     }
 
     public <K, V> MapView<A, K, V> andThen(MapView<B, K, V> that) {
-        return MapView.of((A a) -> that.getMap(get(a)));
+        return path(new MapView<>((A a) -> that.getMap(get(a)), that.isLazy()), this, that);
+    }
+
+    public IntView<A> andThen(IntView<B> that) {
+        return path(new IntView<>((A a) -> that.get(get(a))), this, that);
+    }
+
+    public IntStreamView<A> andThen(IntStreamView<B> that) {
+        return path(new IntStreamView<>((A a) -> that.getStream(get(a))), this, that);
+    }
+
+    public LongView<A> andThen(LongView<B> that) {
+        return path(new LongView<>((A a) -> that.get(get(a))), this, that);
+    }
+
+    public LongStreamView<A> andThen(LongStreamView<B> that) {
+        return path(new LongStreamView<>((A a) -> that.getStream(get(a))), this, that);
+    }
+
+    public DoubleView<A> andThen(DoubleView<B> that) {
+        return path(new DoubleView<>((A a) -> that.get(get(a))), this, that);
+    }
+
+    public DoubleStreamView<A> andThen(DoubleStreamView<B> that) {
+        return path(new DoubleStreamView<>((A a) -> that.getStream(get(a))), this, that);
     }
 
     public <C> View<C, B> compose(final View<C, A> that) {
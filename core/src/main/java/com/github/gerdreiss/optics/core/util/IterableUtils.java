@@ -1,10 +1,16 @@
 package com.github.gerdreiss.optics.core.util;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Spliterator;
-import java.util.Spliterators;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -17,8 +23,25 @@ public final class IterableUtils {
         return stream(zip(as, bs));
     }
 
+    /**
+     * Zips two lists into a stream that is parallel if requested. Random access lists are zipped by index, so that the
+     * stream splits evenly.
+     */
+    public static <A, B> Stream<Entry<A, B>> zipStream(List<A> as, List<B> bs, boolean parallel) {
+        if (as instanceof RandomAccess && bs instanceof RandomAccess) {
+            var zipped = IntStream.range(0, Math.min(as.size(), bs.size()))
+                    .<Entry<A, B>>mapToObj(i -> new SimpleImmutableEntry<>(as.get(i), bs.get(i)));
+            return parallel ? zipped.parallel() : zipped;
+        }
+        var zipped = zipStream(as, bs);
+        return parallel ? zipped.parallel() : zipped;
+    }
+
     public static <A> Stream<A> stream(Iterable<A> as) {
-        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(as.iterator(), Spliterator.ORDERED), false);
+        if (as instanceof Collection) {
+            return ((Collection<A>) as).stream();
+        }
+        return StreamSupport.stream(as.spliterator(), false);
     }
 
     public static <A, B> Iterable<Entry<A, B>> zip(Iterable<A> as, Iterable<B> bs) {
@@ -38,4 +61,71 @@ public final class IterableUtils {
         };
     }
 
+    /**
+     * Tests whether both collections have the same size and their elements match pairwise in iteration order
+     */
+    public static <A> boolean allMatch(
+            Collection<? extends A> as, Collection<? extends A> bs, BiPredicate<? super A, ? super A> predicate) {
+        if (as.size() != bs.size()) {
+            return false;
+        }
+        var iteratorA = as.iterator();
+        var iteratorB = bs.iterator();
+        while (iteratorA.hasNext() && iteratorB.hasNext()) {
+            if (!predicate.test(iteratorA.next(), iteratorB.next())) {
+                return false;
+            }
+        }
+        return !iteratorA.hasNext() && !iteratorB.hasNext();
+    }
+
+    /**
+     * Returns the first element matching the predicate, without looking any further
+     */
+    public static <A> Optional<A> findFirst(Iterable<A> as, Predicate<? super A> predicate) {
+        for (A a : as) {
+            if (predicate.test(a)) {
+                return Optional.of(a);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Tests whether any element matches the predicate, without looking any further than the first match
+     */
+    public static <A> boolean exists(Iterable<A> as, Predicate<? super A> predicate) {
+        for (A a : as) {
+            if (predicate.test(a)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests whether all elements match the predicate, without looking any further than the first mismatch
+     */
+    public static <A> boolean forAll(Iterable<A> as, Predicate<? super A> predicate) {
+        for (A a : as) {
+            if (!predicate.test(a)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts the elements matching the predicate
+     */
+    public static <A> long count(Iterable<A> as, Predicate<? super A> predicate) {
+        long count = 0;
+        for (A a : as) {
+            if (predicate.test(a)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core.util;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The copy strategy of the map lenses: the maps they build keep the ordering of the map they are copied from, and are
+ * sized up front, so that copying and then updating them does not rehash
+ */
+public final class MapUtils {
+
+    private MapUtils() {
+    }
+
+    /**
+     * Returns a mutable copy of the given map with room for the given number of additional entries. A sorted map is
+     * copied into a {@link TreeMap} with its comparator, a {@link LinkedHashMap} keeps its iteration order, and maps of
+     * other types are copied into a {@link HashMap}.
+     */
+    public static <K, V> Map<K, V> copyOf(Map<K, V> source, int extra) {
+        if (source instanceof SortedMap) {
+            return new TreeMap<>((SortedMap<K, V>) source);
+        }
+        var capacity = capacityFor(source.size() + extra);
+        Map<K, V> copy = source instanceof LinkedHashMap ? new LinkedHashMap<>(capacity) : new HashMap<>(capacity);
+        copy.putAll(source);
+        return copy;
+    }
+
+    /**
+     * Returns the initial capacity of a hash map that holds the given number of entries without being resized
+     */
+    private static int capacityFor(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core.util;
+
+import static java.util.stream.Collectors.toCollection;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * The collection strategy of the queue optics: the queues they build keep the concrete type and order of the queue
+ * they are built from, instead of being re-heaped into a {@link PriorityQueue}. Concurrent queues stay concurrent, and
+ * bounded blocking queues keep their capacity where the number of values is kept.
+ */
+public final class QueueUtils {
+
+    private static final Queue<Object> EMPTY = new AbstractQueue<>() {
+        @Override
+        public Iterator<Object> iterator() {
+            return Collections.emptyIterator();
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        @Override
+        public boolean offer(Object o) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object poll() {
+            return null;
+        }
+
+        @Override
+        public Object peek() {
+            return null;
+        }
+    };
+
+    private QueueUtils() {
+    }
+
+    /**
+     * Returns the shared immutable empty queue
+     */
+    @SuppressWarnings("unchecked")
+    public static <A> Queue<A> empty() {
+        return (Queue<A>) EMPTY;
+    }
+
+    /**
+     * Returns a collector into a queue of the same type as the given one, for as many values as it holds. A priority
+     * queue keeps its comparator, and a bounded blocking queue keeps its capacity. Queues of the types
+     * {@link #toMappedQueueLike} does not keep are collected as described there.
+     */
+    public static <A> Collector<A, ?, Queue<A>> toQueueLike(Queue<A> source) {
+        var size = Math.max(1, source.size());
+        if (source instanceof PriorityQueue) {
+            var comparator = ((PriorityQueue<A>) source).comparator();
+            return toCollection(() -> new PriorityQueue<>(size, comparator));
+        }
+        if (source instanceof PriorityBlockingQueue) {
+            var comparator = ((PriorityBlockingQueue<A>) source).comparator();
+            return toCollection(() -> new PriorityBlockingQueue<>(size, comparator));
+        }
+        return toCollection(supplier(source, true));
+    }
+
+    /**
+     * Returns a collector of mapped values into a queue like the given one, in its iteration order. A
+     * {@link LinkedList}, {@link ConcurrentLinkedQueue}, {@link ConcurrentLinkedDeque} or {@link LinkedBlockingDeque}
+     * is collected into a queue of its type, other blocking queues into a {@link LinkedBlockingQueue}, and all other
+     * queues into an {@link ArrayDeque}. The blocking queues are unbounded, since the mapped values may be more than
+     * the values of the given queue.
+     */
+    public static <A, B> Collector<B, ?, Queue<B>> toMappedQueueLike(Queue<A> source) {
+        return toCollection(supplier(source, false));
+    }
+
+    private static <A> Supplier<Queue<A>> supplier(Queue<?> source, boolean bounded) {
+        if (source instanceof LinkedList) {
+            return LinkedList::new;
+        }
+        if (source instanceof ConcurrentLinkedDeque) {
+            return ConcurrentLinkedDeque::new;
+        }
+        if (source instanceof ConcurrentLinkedQueue) {
+            return ConcurrentLinkedQueue::new;
+        }
+        if (source instanceof BlockingQueue && !bounded) {
+            return source instanceof LinkedBlockingDeque ? LinkedBlockingDeque::new : LinkedBlockingQueue::new;
+        }
+        if (source instanceof BlockingQueue) {
+            var capacity = capacity((BlockingQueue<?>) source);
+            if (source instanceof ArrayBlockingQueue) {
+                return () -> new ArrayBlockingQueue<>(capacity);
+            }
+            if (source instanceof LinkedBlockingDeque) {
+                return () -> new LinkedBlockingDeque<>(capacity);
+            }
+            return () -> new LinkedBlockingQueue<>(capacity);
+        }
+        var size = source.size();
+        return () -> new ArrayDeque<>(size);
+    }
+
+    private static int capacity(BlockingQueue<?> queue) {
+        var capacity = (long) queue.size() + queue.remainingCapacity();
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, capacity));
+    }
+}
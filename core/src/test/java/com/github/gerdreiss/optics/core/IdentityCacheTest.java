@@ -0,0 +1,153 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.gerdreiss.optics.core.IdentityCache.Policy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class IdentityCacheTest {
+
+    record Invoice(String id, Map<String, Integer> lines) {}
+
+    private final AtomicInteger computed = new AtomicInteger();
+
+    private final View<Invoice, Integer> totalView = View.of((Invoice invoice) -> {
+        computed.incrementAndGet();
+        return invoice.lines().values().stream().mapToInt(Integer::intValue).sum();
+    });
+
+    @Test
+    void memoizedView() {
+        var cache = IdentityCache.<Invoice, Integer>of(10);
+        var memoizedTotalView = totalView.memoized(cache);
+        var invoice = new Invoice("a", Map.of("x", 1, "y", 2));
+
+        assertEquals(3, memoizedTotalView.get(invoice));
+        assertEquals(3, memoizedTotalView.get(invoice));
+        assertEquals(3, memoizedTotalView.get(new Invoice("a", Map.of("x", 1, "y", 2))));
+        assertNull(memoizedTotalView.get(null));
+
+        assertEquals(2, computed.get());
+        assertEquals(1, cache.hits());
+        assertEquals(2, cache.misses());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void memoizedOptionalAndMapViews() {
+        var invoice = new Invoice("a", Map.of("x", 1));
+        var optionalView = OptionalView.of((Invoice i) -> {
+            computed.incrementAndGet();
+            return Optional.ofNullable(i.lines().get("y"));
+        }).memoized(10);
+        var mapView = MapView.of(Invoice::lines).lazy().memoized(10).andThen(View.of((Integer q) -> q * 10));
+
+        assertEquals(Optional.empty(), optionalView.getOptional(invoice));
+        assertEquals(Optional.empty(), optionalView.getOptional(invoice));
+        assertEquals(1, computed.get());
+        assertEquals(10, mapView.get(invoice, "x"));
+    }
+
+    @Test
+    void eviction() {
+        var a = new Object();
+        var b = new Object();
+        var c = new Object();
+
+        var lru = IdentityCache.<Object, Integer>of(2, Policy.LRU);
+        lru.computeIfAbsent(a, o -> 1);
+        lru.computeIfAbsent(b, o -> 2);
+        lru.computeIfAbsent(a, o -> 1);
+        lru.computeIfAbsent(c, o -> 3);
+        assertEquals(1, lru.computeIfAbsent(a, o -> -1));
+        assertEquals(-2, lru.computeIfAbsent(b, o -> -2));
+
+        var fifo = IdentityCache.<Object, Integer>of(2, Policy.FIFO);
+        fifo.computeIfAbsent(a, o -> 1);
+        fifo.computeIfAbsent(b, o -> 2);
+        fifo.computeIfAbsent(a, o -> 1);
+        fifo.computeIfAbsent(c, o -> 3);
+        assertEquals(-1, fifo.computeIfAbsent(a, o -> -1));
+        assertEquals(2, fifo.size());
+
+        fifo.clear();
+        assertEquals(0, fifo.size());
+        assertThrows(IllegalArgumentException.class, () -> IdentityCache.of(0));
+    }
+
+    @Test
+    void nullValues() {
+        var cache = IdentityCache.<Object, String>of(1);
+        var key = new Object();
+
+        assertNull(cache.computeIfAbsent(key, o -> null));
+        assertNull(cache.computeIfAbsent(key, o -> "computed"));
+        assertEquals(1, cache.hits());
+    }
+
+    @Test
+    void concurrentAccess() throws Exception {
+        var keys = new ArrayList<Object>();
+        for (int i = 0; i < 64; i++) {
+            keys.add(new Object());
+        }
+        for (var policy : Policy.values()) {
+            var cache = IdentityCache.<Object, Integer>of(16, policy);
+            var executor = Executors.newFixedThreadPool(8);
+            try {
+                var tasks = new ArrayList<Callable<Boolean>>();
+                for (int t = 0; t < 8; t++) {
+                    var offset = t;
+                    tasks.add(() -> {
+                        for (int i = 0; i < 10_000; i++) {
+                            var index = (i * 7 + offset) % (i % 3 == 0 ? keys.size() : 8);
+                            if (cache.computeIfAbsent(keys.get(index), key -> keys.indexOf(key)) != index) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    });
+                }
+                List<Future<Boolean>> results = executor.invokeAll(tasks);
+                for (var result : results) {
+                    assertTrue(result.get());
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            assertEquals(80_000, cache.hits() + cache.misses());
+            assertTrue(cache.hits() > 0);
+            assertTrue(cache.size() <= 16);
+        }
+    }
+}
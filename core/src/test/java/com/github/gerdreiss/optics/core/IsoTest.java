@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class IsoTest {
+
+    record PriceDto(long cents) {}
+
+    record Price(double amount) {}
+
+    record Line(String product, PriceDto price) {}
+
+    record Order(List<Line> lines) {}
+
+    private final Iso<PriceDto, Price> priceIso = Iso.of(
+            (PriceDto dto) -> new Price(dto.cents() / 100.0), price -> new PriceDto(Math.round(price.amount() * 100)));
+    private final Lens<Price, Double> priceAmountLens = Lens.of(Price::amount, (price, amount) -> new Price(amount));
+    private final Lens<Line, PriceDto> linePriceLens =
+            Lens.of(Line::price, (line, price) -> new Line(line.product(), price));
+    private final ListLens<Order, Line> orderLinesLens = ListLens.of(Order::lines, (order, lines) -> new Order(lines));
+
+    private final Line line = new Line("a", new PriceDto(250));
+
+    @Test
+    void getAndReverseGet() {
+        assertEquals(new Price(2.5), priceIso.get(new PriceDto(250)));
+        assertEquals(new PriceDto(250), priceIso.reverseGet(new Price(2.5)));
+        assertEquals(new PriceDto(250), priceIso.reverse().get(new Price(2.5)));
+        assertEquals(new PriceDto(300), priceIso.set(new PriceDto(250), new Price(3)));
+        assertEquals(new PriceDto(500), priceIso.modify(new PriceDto(250), price -> new Price(price.amount() * 2)));
+        assertNull(priceIso.reverseGet(null));
+        assertNull(priceIso.set(new PriceDto(250), null));
+    }
+
+    @Test
+    void composeIntoLens() {
+        var lineAmountLens = linePriceLens.andThen(priceIso).andThen(priceAmountLens);
+
+        assertEquals(2.5, lineAmountLens.get(line));
+        assertEquals(new Line("a", new PriceDto(400)), lineAmountLens.set(line, 4.0));
+        assertEquals(new PriceDto(400), priceIso.andThen(priceAmountLens).set(new PriceDto(250), 4.0));
+
+        var amountsLens = orderLinesLens.andThen(lineAmountLens);
+        var order = new Order(List.of(line, new Line("b", new PriceDto(100))));
+        assertEquals(List.of(2.5, 1.0), amountsLens.getList(order));
+        assertEquals(List.of(new PriceDto(500), new PriceDto(200)), amountsLens
+                .modify(order, amount -> amount * 2)
+                .lines()
+                .stream()
+                .map(Line::price)
+                .toList());
+    }
+
+    @Test
+    void composeIsos() {
+        var roundTrip = priceIso.andThen(priceIso.reverse());
+
+        assertEquals(new PriceDto(250), roundTrip.get(new PriceDto(250)));
+        assertSame(priceIso, priceIso.andThen(Iso.<Price>identity()));
+        assertSame(priceIso, Iso.<PriceDto>identity().andThen(priceIso));
+    }
+
+    @Test
+    void identityIsSkipped() {
+        assertSame(linePriceLens, linePriceLens.andThen(Iso.<PriceDto>identity()));
+        assertSame(orderLinesLens, orderLinesLens.andThen(Iso.<Line>identity()));
+        assertSame(priceAmountLens, Iso.<Price>identity().andThen(priceAmountLens));
+
+        var view = View.of(Line::product);
+        assertSame(view, view.andThen(Iso.<String>identity()));
+        var mapView = MapView.of((Line line) -> Map.of(line.product(), line.price())).lazy();
+        assertSame(mapView, mapView.andThen(Iso.<PriceDto>identity()));
+        var narrowing = Iso.<Object, PriceDto>narrowing(PriceDto.class);
+        var objectLens = Lens.of((Line l) -> (Object) l.price(), (l, price) -> new Line(l.product(), (PriceDto) price));
+        assertSame(objectLens, objectLens.andThen(narrowing));
+        assertEquals(new PriceDto(250), narrowing.get(line.price()));
+    }
+}
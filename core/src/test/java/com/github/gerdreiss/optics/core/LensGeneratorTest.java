@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class LensGeneratorTest {
+
+    record Address(String street, int zip) {}
+
+    record Customer(String name, Address address) {}
+
+    record Order(long id, Customer customer) {}
+
+    private static final Lens<Address, Integer> ADDRESS_ZIP = LensGenerator.of(Address.class, "zip");
+    private static final Lens<Order, String> ORDER_CUSTOMER_NAME = LensGenerator.path(Order.class, "customer", "name");
+    private static final Lens<Order, Integer> ORDER_ZIP = LensGenerator.path(Order.class, "customer", "address", "zip");
+
+    private final Order order = new Order(1L, new Customer("name", new Address("street", 12345)));
+
+    @Test
+    void get() {
+        assertEquals(12345, ADDRESS_ZIP.get(new Address("street", 12345)));
+        assertNull(ADDRESS_ZIP.get(null));
+    }
+
+    @Test
+    void set() {
+        assertEquals(new Address("street", 54321), ADDRESS_ZIP.set(new Address("street", 12345), 54321));
+        assertNull(ADDRESS_ZIP.set(null, 54321));
+    }
+
+    @Test
+    void path() {
+        assertEquals("name", ORDER_CUSTOMER_NAME.get(order));
+        assertEquals(12345, ORDER_ZIP.get(order));
+
+        var updated = ORDER_ZIP.modify(order, zip -> zip + 1);
+        assertEquals(new Order(1L, new Customer("name", new Address("street", 12346))), updated);
+
+        updated = ORDER_CUSTOMER_NAME.set(order, "other");
+        assertEquals(new Order(1L, new Customer("other", new Address("street", 12345))), updated);
+        assertEquals("customer.address.zip", ORDER_ZIP.name());
+    }
+
+    @Test
+    void pathWithNullIntermediate() {
+        var o = new Order(1L, new Customer("name", null));
+
+        assertNull(ORDER_ZIP.get(o));
+        assertEquals(o, ORDER_ZIP.set(o, 54321));
+    }
+
+    @Test
+    void invalidComponents() {
+        assertThrows(IllegalArgumentException.class, () -> LensGenerator.of(Address.class, "city"));
+        assertThrows(IllegalArgumentException.class, () -> LensGenerator.path(Order.class, "id", "value"));
+        assertThrows(IllegalArgumentException.class, () -> LensGenerator.path(Order.class));
+    }
+}
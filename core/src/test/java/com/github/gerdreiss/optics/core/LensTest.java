@@ -16,9 +16,16 @@
 package com.github.gerdreiss.optics.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.runner.JUnitPlatform;
@@ -105,4 +112,107 @@ public class LensTest extends TestModel {
         updated = composedPropertyLens.modify(updated, String::toUpperCase);
         assertEquals("NEWPROPERTY", composedPropertyLens.get(updated));
     }
+
+    @Test
+    public void andThenWalksPathOnce() {
+        var gets = new AtomicInteger();
+        var sets = new AtomicInteger();
+        var composedPropertyLens =
+                counting(rootObjNestedObjLens, gets, sets)
+                        .andThen(counting(nestedObjInnerObjLens, gets, sets))
+                        .andThen(counting(innerObjPropertyLens, gets, sets));
+
+        var o = new RootObj(new NestedObj(new InnerObj(PROP)));
+
+        var updated = composedPropertyLens.set(o, "newProperty");
+        assertEquals(2, gets.get());
+        assertEquals(3, sets.get());
+
+        gets.set(0);
+        sets.set(0);
+        updated = composedPropertyLens.modify(updated, String::toUpperCase);
+        assertEquals(3, gets.get());
+        assertEquals(3, sets.get());
+        assertEquals("NEWPROPERTY", composedPropertyLens.get(updated));
+    }
+
+    @Test
+    public void andThenWalksPrefixOnceForCollectionLenses() {
+        var gets = new AtomicInteger();
+        var sets = new AtomicInteger();
+        var composedOptionalLens = counting(rootObjNestedObjLens, gets, sets)
+                .andThen(counting(nestedObjInnerObjLens, gets, sets))
+                .andThen(innerObjPropertyOptionalLens);
+
+        var o = new RootObj(new NestedObj(new InnerObj(PROP)));
+
+        var updated = composedOptionalLens.set(o, MAYBE_PROP);
+        assertEquals(2, gets.get());
+        assertEquals(2, sets.get());
+        assertEquals(MAYBE_PROP, composedOptionalLens.getOptional(updated));
+    }
+
+    @Test
+    public void preservingIdentity() {
+        var created = new InnerObj(PROP);
+
+        assertSame(created, innerObjPropertyLens.preservingIdentity().set(created, PROP));
+        assertSame(created, innerObjPropertyLens.preservingIdentity().modify(created, s -> s));
+        assertNotSame(created, innerObjPropertyLens.preservingIdentity().set(created, new String(PROP)));
+        assertSame(created, innerObjPropertyLens.preservingIdentity(Object::equals).set(created, new String(PROP)));
+        assertNotSame(created, innerObjPropertyLens.set(created, PROP));
+    }
+
+    @Test
+    public void andThenPreservingIdentity() {
+        var o = new RootObj(new NestedObj(new InnerObj(PROP)));
+
+        var composedPropertyLens = rootObjNestedObjLens
+                .andThen(nestedObjInnerObjLens)
+                .andThen(innerObjPropertyLens.preservingIdentity());
+
+        assertSame(o, composedPropertyLens.set(o, PROP));
+        assertSame(o, composedPropertyLens.modify(o, s -> s));
+
+        var updated = composedPropertyLens.set(o, "newProperty");
+        assertNotSame(o, updated);
+        assertEquals("newProperty", composedPropertyLens.get(updated));
+
+        composedPropertyLens = rootObjNestedObjLens
+                .andThen(nestedObjInnerObjLens)
+                .andThen(innerObjPropertyLens)
+                .preservingIdentity(Object::equals);
+
+        assertSame(o, composedPropertyLens.set(o, new String(PROP)));
+
+        composedPropertyLens = rootObjNestedObjLens.andThen(nestedObjInnerObjLens).andThen(innerObjPropertyLens);
+        assertNotSame(o, composedPropertyLens.set(o, PROP));
+    }
+
+    private static <A, B> Lens<A, B> counting(Lens<A, B> lens, AtomicInteger gets, AtomicInteger sets) {
+        return Lens.of(
+                (A a) -> {
+                    gets.incrementAndGet();
+                    return lens.get(a);
+                },
+                (A a, B b) -> {
+                    sets.incrementAndGet();
+                    return lens.set(a, b);
+                });
+    }
+
+    @Test
+    public void setAllAndModifyAll() {
+        var targets = IntStream.range(0, 100).mapToObj(i -> new InnerObj("p" + i)).collect(Collectors.toList());
+        var values = IntStream.range(0, 100).mapToObj(i -> "v" + i).collect(Collectors.toList());
+
+        for (var threshold : List.of(Integer.MAX_VALUE, 10)) {
+            var updated = innerObjPropertyLens.setAll(targets, values, threshold);
+            var modified = innerObjPropertyLens.modifyAll(targets, p -> p + "!", threshold);
+
+            assertEquals(values, innerObjPropertyView.getAll(updated, threshold));
+            assertEquals("p42!", modified.get(42).getProperty());
+        }
+        assertThrows(IllegalArgumentException.class, () -> innerObjPropertyLens.setAll(targets, List.of("v")));
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class ListLensTest {
+
+    record Line(String product, int quantity) {}
+
+    record Order(String id, List<Line> lines) {}
+
+    record Customer(String name, Order order) {}
+
+    private final Lens<Customer, Order> customerOrderLens =
+            Lens.of(Customer::order, (customer, order) -> new Customer(customer.name(), order));
+    private final ListLens<Order, Line> orderLinesLens =
+            ListLens.of(Order::lines, (order, lines) -> new Order(order.id(), lines));
+    private final Lens<Line, Integer> lineQuantityLens =
+            Lens.of(Line::quantity, (line, quantity) -> new Line(line.product(), quantity));
+
+    private final Order order = new Order("order", List.of(new Line("a", 1), new Line("b", 2)));
+
+    @Test
+    public void set() {
+        var lines = List.of(new Line("c", 3));
+
+        assertEquals(lines, orderLinesLens.set(order, lines).lines());
+        assertEquals(lines, orderLinesLens.set(order, new Line("c", 3)).lines());
+        assertNull(orderLinesLens.set(null, lines));
+    }
+
+    @Test
+    public void modify() {
+        var modified = orderLinesLens.modify(order, line -> new Line(line.product(), line.quantity() * 10));
+
+        assertEquals(List.of(new Line("a", 10), new Line("b", 20)), modified.lines());
+    }
+
+    @Test
+    public void at() {
+        var secondLineLens = orderLinesLens.at(1);
+
+        assertEquals(new Line("b", 2), secondLineLens.get(order));
+        assertEquals(List.of(new Line("a", 1), new Line("c", 3)), secondLineLens.set(order, new Line("c", 3)).lines());
+        assertNull(orderLinesLens.at(2).get(order));
+        assertSame(order, orderLinesLens.at(2).set(order, new Line("c", 3)));
+        assertSame(order, orderLinesLens.preservingIdentity().at(1).modify(order, line -> line));
+    }
+
+    @Test
+    public void modifyAt() {
+        var modified = orderLinesLens.modifyAt(order, 1, line -> new Line(line.product(), 20));
+
+        assertEquals(List.of(new Line("a", 1), new Line("b", 20)), modified.lines());
+        assertSame(order, orderLinesLens.modifyAt(order, 2, line -> new Line("c", 3)));
+        assertSame(order, orderLinesLens.preservingIdentity().modifyAt(order, 0, line -> line));
+        assertNull(orderLinesLens.modifyAt(null, 0, line -> line));
+    }
+
+    @Test
+    public void modifyWhere() {
+        var manyLines = new Order("order", List.of(new Line("a", 1), new Line("b", 2), new Line("a", 3)));
+
+        var modified = orderLinesLens.modifyWhere(manyLines, line -> line.product().equals("a"),
+                line -> new Line("c", line.quantity()));
+        var modifiedFirst = orderLinesLens.modifyFirst(manyLines, line -> line.product().equals("a"),
+                line -> new Line("c", line.quantity()));
+
+        assertEquals(List.of(new Line("c", 1), new Line("b", 2), new Line("c", 3)), modified.lines());
+        assertEquals(List.of(new Line("c", 1), new Line("b", 2), new Line("a", 3)), modifiedFirst.lines());
+        assertSame(order, orderLinesLens.modifyWhere(order, line -> line.quantity() > 2, line -> null));
+        assertSame(order, orderLinesLens.modifyFirst(order, line -> line.quantity() > 2, line -> null));
+    }
+
+    @Test
+    public void andThen() {
+        var quantitiesLens = customerOrderLens.andThen(orderLinesLens).andThen(lineQuantityLens);
+        var customer = new Customer("customer", order);
+
+        assertEquals(List.of(1, 2), quantitiesLens.getList(customer));
+        assertEquals(List.of(2, 3), quantitiesLens.getList(quantitiesLens.modify(customer, q -> q + 1)));
+    }
+
+    @Test
+    public void preservingIdentity() {
+        var preservingLens = orderLinesLens.preservingIdentity();
+
+        assertSame(order, preservingLens.modify(order, line -> line));
+        assertSame(order, preservingLens.set(order, order.lines()));
+        assertSame(order, preservingLens.set(order, List.copyOf(order.lines())));
+        assertNotSame(order, preservingLens.modify(order, line -> new Line(line.product(), line.quantity())));
+        assertSame(order, orderLinesLens.preservingIdentity(Object::equals)
+                .modify(order, line -> new Line(line.product(), line.quantity())));
+        assertNotSame(order, orderLinesLens.modify(order, line -> line));
+    }
+
+    @Test
+    public void andThenPreservingIdentity() {
+        var quantitiesLens = customerOrderLens
+                .andThen(orderLinesLens)
+                .andThen(lineQuantityLens.preservingIdentity(Object::equals));
+        var customer = new Customer("customer", order);
+
+        assertSame(customer, quantitiesLens.modify(customer, q -> q));
+        assertSame(customer, quantitiesLens.set(customer, List.of(1, 2)));
+        assertEquals(List.of(2, 3), quantitiesLens.getList(quantitiesLens.modify(customer, q -> q + 1)));
+    }
+
+    @Test
+    public void parallel() {
+        var lines = IntStream.range(0, 1000).mapToObj(i -> new Line("p" + i, i)).collect(Collectors.toList());
+        var largeOrder = new Order("order", lines);
+        var quantitiesLens = orderLinesLens.parallel(100).andThen(lineQuantityLens);
+
+        var modified = quantitiesLens.modify(largeOrder, q -> q + 1);
+
+        assertEquals(IntStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList()),
+                quantitiesLens.getList(modified));
+        assertEquals(orderLinesLens.modify(largeOrder, line -> new Line(line.product(), 0)),
+                orderLinesLens.parallel(100).modify(largeOrder, line -> new Line(line.product(), 0)));
+    }
+}
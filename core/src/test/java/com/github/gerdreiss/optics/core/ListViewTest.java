@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class ListViewTest {
+
+    record Catalog(List<Integer> prices) {}
+
+    private final ListView<Catalog, Integer> catalogPricesView = ListView.of(Catalog::prices);
+
+    private final Catalog catalog =
+            new Catalog(IntStream.rangeClosed(1, 100).boxed().collect(Collectors.toList()));
+
+    @Test
+    void indexedAccess() {
+        var linkedCatalog = new Catalog(new LinkedList<>(catalog.prices()));
+
+        for (var c : List.of(catalog, linkedCatalog)) {
+            assertEquals(Optional.of(1), catalogPricesView.getFirst(c));
+            assertEquals(Optional.of(100), catalogPricesView.getLast(c));
+            assertEquals(Optional.of(43), catalogPricesView.getAt(c, 42));
+            assertEquals(Optional.empty(), catalogPricesView.getAt(c, 100));
+        }
+        assertEquals(Optional.empty(), catalogPricesView.getFirst(new Catalog(List.of())));
+        assertEquals(Optional.empty(), catalogPricesView.getLast(null));
+        assertThrows(IllegalArgumentException.class, () -> catalogPricesView.getAt(catalog, -1));
+    }
+
+    @Test
+    void findFirst() {
+        var tested = new AtomicInteger();
+
+        var found = catalogPricesView.findFirst(catalog, price -> tested.incrementAndGet() > 0 && price % 10 == 0);
+
+        assertEquals(Optional.of(10), found);
+        assertEquals(10, tested.get());
+        assertEquals(Optional.empty(), catalogPricesView.findFirst(catalog, price -> price > 100));
+        assertEquals(Optional.empty(), catalogPricesView.findFirst(null, price -> true));
+    }
+
+    @Test
+    void findAny() {
+        assertEquals(Optional.of(50), catalogPricesView.findAny(catalog, price -> price == 50));
+        assertEquals(Optional.empty(), catalogPricesView.findAny(catalog, price -> price > 100));
+    }
+
+    @Test
+    void exists() {
+        var tested = new AtomicInteger();
+
+        assertTrue(catalogPricesView.exists(catalog, price -> tested.incrementAndGet() > 0 && price == 3));
+        assertEquals(3, tested.get());
+        assertFalse(catalogPricesView.exists(catalog, price -> price > 100));
+        assertFalse(catalogPricesView.exists(null, price -> true));
+    }
+
+    @Test
+    void forAll() {
+        var tested = new AtomicInteger();
+
+        assertTrue(catalogPricesView.forAll(catalog, price -> price > 0));
+        assertFalse(catalogPricesView.forAll(catalog, price -> tested.incrementAndGet() > 0 && price < 5));
+        assertEquals(5, tested.get());
+        assertTrue(catalogPricesView.forAll(null, price -> false));
+    }
+
+    @Test
+    void count() {
+        assertEquals(10, catalogPricesView.count(catalog, price -> price % 10 == 0));
+        assertEquals(0, catalogPricesView.count(null, price -> true));
+    }
+
+    @Test
+    void parallel() {
+        var parallelView = catalogPricesView.parallel(10);
+        var doubledView = parallelView.andThen(View.of((Integer price) -> price * 2));
+
+        assertTrue(parallelView.getStream(catalog).isParallel());
+        assertFalse(parallelView.getStream(new Catalog(List.of(1, 2))).isParallel());
+        assertEquals(catalogPricesView.andThen(View.of((Integer price) -> price * 2)).getList(catalog),
+                doubledView.getList(catalog));
+        assertEquals(List.of(10, 20, 30, 40, 50, 60, 70, 80, 90, 100),
+                parallelView.findAll(catalog, price -> price % 10 == 0));
+        assertThrows(IllegalArgumentException.class, () -> catalogPricesView.parallel(-1));
+    }
+}
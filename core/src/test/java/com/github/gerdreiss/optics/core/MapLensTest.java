@@ -0,0 +1,151 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class MapLensTest {
+
+    record Setting(String value, int version) {}
+
+    record Tenant(String id, Map<String, Setting> settings) {}
+
+    record Registry(Tenant tenant) {}
+
+    private final MapLens<Tenant, String, Setting> settingsLens =
+            MapLens.of(Tenant::settings, (tenant, settings) -> new Tenant(tenant.id(), settings)).named("settings");
+    private final Lens<Setting, String> settingValueLens =
+            Lens.of("value", Setting::value, (setting, value) -> new Setting(value, setting.version()));
+    private final Lens<Registry, Tenant> registryTenantLens =
+            Lens.of("tenant", Registry::tenant, (registry, tenant) -> new Registry(tenant));
+
+    private final Setting dark = new Setting("dark", 1);
+    private final Setting en = new Setting("en", 1);
+    private final Tenant tenant = new Tenant("t1", Map.of("theme", dark, "locale", en));
+
+    @Test
+    void at() {
+        var theme = settingsLens.at("theme");
+
+        assertEquals(Optional.of(dark), theme.getOptional(tenant));
+        assertEquals(Optional.empty(), settingsLens.at("missing").getOptional(tenant));
+        assertEquals("settings[theme]", theme.name());
+
+        var light = new Setting("light", 2);
+        var updated = theme.set(tenant, light);
+        assertEquals(Map.of("theme", light, "locale", en), updated.settings());
+        assertEquals(Map.of("theme", dark, "locale", en), tenant.settings());
+
+        assertEquals(Map.of("locale", en), theme.set(tenant, Optional.empty()).settings());
+        assertEquals(3, settingsLens.at("font").set(tenant, dark).settings().size());
+    }
+
+    @Test
+    void unchangedUpdatesReturnTheTarget() {
+        assertSame(tenant, settingsLens.at("theme").set(tenant, dark));
+        assertSame(tenant, settingsLens.at("missing").set(tenant, Optional.empty()));
+        assertSame(tenant, settingsLens.put(tenant, "locale", en));
+        assertSame(tenant, settingsLens.remove(tenant, "missing"));
+        assertSame(tenant, settingsLens.modifyValues(tenant, setting -> setting));
+        assertSame(tenant, settingsLens.putAll(tenant, Map.of("theme", dark)));
+        assertSame(tenant, settingsLens.removeIf(tenant, (key, setting) -> setting.version() > 1));
+        assertSame(tenant, settingsLens.set(tenant, tenant.settings()));
+    }
+
+    @Test
+    void instrumentedEntryUpdatesAreReported() {
+        var registry = OpticsMetricsRegistry.create();
+        var instrumented = settingsLens.instrumented("settings", registry);
+        var light = new Setting("light", 2);
+
+        instrumented.put(tenant, "theme", light);
+        instrumented.remove(tenant, "theme");
+        instrumented.putAll(tenant, Map.of("font", light));
+        instrumented.removeIf(tenant, (key, setting) -> key.equals("locale"));
+        instrumented.modifyValues(tenant, setting -> light);
+        instrumented.at("theme").set(tenant, light);
+        instrumented.put(tenant, "locale", en);
+        instrumented.remove(tenant, "missing");
+
+        assertEquals(6, registry.stats("settings", OpticsMetrics.Operation.SET).calls());
+        assertEquals(11, registry.stats("settings", OpticsMetrics.Operation.SET).elements());
+    }
+
+    @Test
+    void bulkUpdates() {
+        var bumped = settingsLens.modifyValues(tenant, s -> s.value().equals("en") ? new Setting("de", 2) : s);
+        assertEquals(Map.of("theme", dark, "locale", new Setting("de", 2)), bumped.settings());
+        assertSame(dark, bumped.settings().get("theme"));
+
+        var font = new Setting("mono", 1);
+        assertEquals(
+                Map.of("theme", dark, "locale", en, "font", font),
+                settingsLens.putAll(tenant, Map.of("font", font, "theme", dark)).settings());
+
+        assertEquals(Map.of("theme", dark), settingsLens.removeIf(tenant, (key, s) -> key.equals("locale")).settings());
+    }
+
+    @Test
+    void copiesKeepTheOrderingOfTheMap() {
+        var sorted = new TreeMap<String, Setting>(Comparator.reverseOrder());
+        sorted.putAll(tenant.settings());
+        var sortedTenant = new Tenant("t2", sorted);
+        var updated = settingsLens.put(sortedTenant, "font", dark).settings();
+        assertTrue(updated instanceof TreeMap);
+        assertEquals(List.of("theme", "locale", "font"), List.copyOf(updated.keySet()));
+
+        var linked = new LinkedHashMap<String, Setting>();
+        linked.put("b", dark);
+        linked.put("a", en);
+        var linkedTenant = new Tenant("t3", linked);
+        assertEquals(List.of("b", "a", "c"), List.copyOf(settingsLens.put(linkedTenant, "c", en).settings().keySet()));
+    }
+
+    @Test
+    void composition() {
+        var values = settingsLens.andThen(settingValueLens);
+
+        assertEquals(Map.of("theme", "dark", "locale", "en"), values.getMap(tenant));
+        assertEquals("settings[*].value", values.name());
+        assertEquals(Optional.of("en"), values.at("locale").getOptional(tenant));
+
+        var updated = values.at("theme").set(tenant, "light");
+        assertEquals(new Setting("light", 1), updated.settings().get("theme"));
+        assertSame(en, updated.settings().get("locale"));
+        assertSame(tenant, values.modifyValues(tenant, value -> value));
+
+        var registry = new Registry(tenant);
+        var tenantSettings = registryTenantLens.andThen(settingsLens);
+        assertEquals("tenant.settings", tenantSettings.name());
+        assertEquals(Optional.of(en), tenantSettings.at("locale").getOptional(registry));
+        assertSame(registry, tenantSettings.at("locale").set(registry, en));
+        assertEquals(Map.of("theme", dark), tenantSettings.remove(registry, "locale").tenant().settings());
+        assertSame(settingsLens, settingsLens.andThen(Iso.<Setting>identity()));
+    }
+}
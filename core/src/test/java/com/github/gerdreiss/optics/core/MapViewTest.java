@@ -18,10 +18,16 @@ package com.github.gerdreiss.optics.core;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.runner.JUnitPlatform;
@@ -135,4 +141,28 @@ class MapViewTest extends TestModel {
         assertNotNull(rootObjStringCollectionMapView.getMap(o).get("NestedObj"));
         assertEquals(1, rootObjStringCollectionMapView.getMap(o).get("NestedObj").size());
     }
+
+    @Test
+    void lazyAndThen() {
+        record Route(String target) {}
+        record Table(Map<String, Route> routes) {}
+
+        var mapped = new AtomicInteger();
+        var routeTargetView = View.of((Route route) -> mapped.incrementAndGet() > 0 ? route.target() : null);
+        var targetsView = MapView.of(Table::routes).lazy().andThen(routeTargetView);
+        var routes = IntStream.range(0, 1000).boxed()
+                .collect(Collectors.toMap(i -> "/" + i, i -> new Route(i % 2 == 0 ? "host" + i : null)));
+        var table = new Table(routes);
+
+        assertEquals("host42", targetsView.get(table, "/42"));
+        assertTrue(targetsView.containsKey(table, "/42"));
+        assertFalse(targetsView.containsKey(table, "/43"));
+        assertNull(targetsView.get(table, "/missing"));
+        assertEquals(3, mapped.get());
+
+        assertEquals(MapView.of(Table::routes).andThen(routeTargetView).getMap(table), targetsView.getMap(table));
+        assertEquals(500, targetsView.getMap(table).size());
+        assertTrue(targetsView.getMap(null).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> targetsView.getMap(table).put("/0", "host"));
+    }
 }
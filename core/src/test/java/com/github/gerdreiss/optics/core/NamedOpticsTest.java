@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class NamedOpticsTest {
+
+    record Line(String product, double price) {}
+
+    record Order(String id, List<Line> lines, Map<String, Line> byProduct) {}
+
+    record Customer(String name, Order order) {}
+
+    private final Lens<Customer, Order> customerOrderLens =
+            Lens.of("order", Customer::order, (customer, order) -> new Customer(customer.name(), order));
+    private final ListLens<Order, Line> orderLinesLens =
+            ListLens.of(Order::lines, (order, lines) -> new Order(order.id(), lines, order.byProduct()))
+                    .named("lines");
+    private final Lens<Line, Double> linePriceLens =
+            Lens.of("price", Line::price, (line, price) -> new Line(line.product(), price));
+
+    @Test
+    void composedPath() {
+        var pricesLens = customerOrderLens.andThen(orderLinesLens).andThen(linePriceLens);
+
+        assertEquals("order.lines[*].price", pricesLens.name());
+        assertEquals("order.lines[*].price", pricesLens.toString());
+        assertEquals("order.lines[*].price", linePriceLens.compose(customerOrderLens.andThen(orderLinesLens)).name());
+        assertEquals("order.lines", customerOrderLens.andThen(orderLinesLens).preservingIdentity().name());
+        assertEquals("order.price", customerOrderLens.andThen(View.of("price", (Order order) -> 0.0)).name());
+    }
+
+    @Test
+    void composedPathOfLenses() {
+        var idLens = Lens.of("id", Order::id, (order, id) -> new Order(id, order.lines(), order.byProduct()));
+        var customerIdLens = customerOrderLens.andThen(idLens);
+
+        assertEquals("order.id", customerIdLens.name());
+        assertEquals("order.id", customerIdLens.preservingIdentity().name());
+        assertEquals("order", customerOrderLens.instrumented("orders").name());
+    }
+
+    @Test
+    void unnamedParts() {
+        var byProductView = MapView.of(Order::byProduct);
+
+        assertNull(byProductView.andThen(View.of(Line::price)).name());
+        assertEquals("?[*].price", byProductView.andThen(linePriceLens).name());
+        assertEquals("byProduct[*].price", byProductView.lazy().named("byProduct").andThen(linePriceLens).name());
+        assertEquals(
+                "order.lines[*].?",
+                customerOrderLens.andThen(orderLinesLens).andThen(View.of(Line::product)).name());
+    }
+
+    @Test
+    void namingCopiesTheOptic() {
+        var linesLens = orderLinesLens.named("orderLines");
+        var vectorLens = ListLens.ofVector(
+                        (Order order) -> PersistentVector.ofAll(order.lines()),
+                        (order, lines) -> new Order(order.id(), lines, order.byProduct()))
+                .named("vector");
+
+        assertEquals("lines", orderLinesLens.name());
+        assertEquals("orderLines", linesLens.name());
+        assertEquals("order.vector[*].price", customerOrderLens.andThen(vectorLens).andThen(linePriceLens).name());
+        assertEquals("order.vector", customerOrderLens.andThen(vectorLens.preservingIdentity()).name());
+    }
+}
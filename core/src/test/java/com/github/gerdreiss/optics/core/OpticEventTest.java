@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class OpticEventTest {
+
+    record Order(List<Integer> lines, Map<String, Integer> totals) {}
+
+    private final ListLens<Order, Integer> orderLinesLens =
+            ListLens.of(Order::lines, (order, lines) -> new Order(lines, order.totals()));
+    private final MapView<Order, String, Integer> orderTotalsView = MapView.of(Order::totals);
+    private final Lens<Order, List<Integer>> orderLinesListLens =
+            Lens.of(Order::lines, (order, lines) -> new Order(lines, order.totals()));
+    private final Lens<List<Integer>, Integer> firstLens =
+            Lens.of(lines -> lines.get(0), (lines, first) -> List.of(first));
+    private final StreamView<Order, Integer> orderLinesStreamView = StreamView.of((Order o) -> o.lines().stream());
+
+    private final Order order = new Order(IntStream.range(0, 1000).boxed().collect(toList()), Map.of("a", 1, "b", 2));
+
+    @Test
+    void recordsOperations() throws Exception {
+        var file = Files.createTempFile("optics", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable(OpticEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            orderLinesLens.modify(order, line -> line + 1);
+            orderTotalsView.getMap(order);
+            orderLinesStreamView.exists(order, line -> line == 9);
+            orderLinesListLens.andThen(firstLens).modify(order, first -> first + 1);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        var events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(OpticEvent.NAME))
+                .collect(toList());
+        Files.delete(file);
+
+        assertEquals(1000, elements(events, "ListLens.modify"));
+        assertEquals(2, elements(events, "MapView.getMap"));
+        assertEquals(10, elements(events, "StreamView.exists"));
+        assertEquals(-1, elements(events, "Lens.modify"));
+        assertEquals(1, events.stream().filter(e -> e.getString("operation").startsWith("Lens.")).count());
+        assertTrue(events.stream().allMatch(e -> e.getString("optic") != null));
+    }
+
+    private static long elements(List<RecordedEvent> events, String operation) {
+        return events.stream()
+                .filter(e -> operation.equals(e.getString("operation")))
+                .findFirst()
+                .orElseThrow()
+                .getLong("elements");
+    }
+}
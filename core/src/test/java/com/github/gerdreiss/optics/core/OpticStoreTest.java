@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class OpticStoreTest {
+
+    record Counters(int hits, int misses) {}
+
+    record Cart(List<Integer> lines, Optional<String> coupon, Map<String, Integer> totals) {}
+
+    private final Lens<Counters, Integer> hitsLens =
+            Lens.of("hits", Counters::hits, (counters, hits) -> new Counters(hits, counters.misses()));
+    private final Lens<Counters, Integer> missesLens =
+            Lens.of("misses", Counters::misses, (counters, misses) -> new Counters(counters.hits(), misses));
+
+    @Test
+    void updates() {
+        var store = OpticStore.of(new Counters(0, 0));
+
+        assertEquals(new Counters(1, 0), store.modify(hitsLens, hits -> hits + 1));
+        assertEquals(new Counters(1, 5), store.set(missesLens, 5));
+        assertEquals(5, store.getAndModify(missesLens, misses -> misses * 2));
+        assertEquals(10, store.get(missesLens));
+
+        var current = store.get();
+        assertSame(current, store.modify(hitsLens.preservingIdentity(), hits -> hits));
+        assertTrue(store.contention().isEmpty());
+    }
+
+    @Test
+    void updatesThroughCollectionLenses() {
+        var linesLens = ListLens.of(Cart::lines, (Cart cart, List<Integer> lines) ->
+                new Cart(lines, cart.coupon(), cart.totals())).named("lines");
+        var couponLens = OptionalLens.of(Cart::coupon, (Cart cart, Optional<String> coupon) ->
+                new Cart(cart.lines(), coupon, cart.totals()));
+        var totalsLens = MapLens.of(Cart::totals, (Cart cart, Map<String, Integer> totals) ->
+                new Cart(cart.lines(), cart.coupon(), totals));
+        var store = OpticStore.of(new Cart(List.of(1, 2), Optional.empty(), Map.of()));
+
+        assertEquals(List.of(2, 4), store.modify(linesLens, line -> line * 2).lines());
+        assertEquals(List.of(3), store.set(linesLens, List.of(3)).lines());
+        assertEquals(Optional.empty(), store.modify(couponLens, String::toUpperCase).coupon());
+        assertEquals(Optional.of("code"), store.set(couponLens, Optional.of("code")).coupon());
+        assertEquals(Optional.of("CODE"), store.modify(couponLens, String::toUpperCase).coupon());
+        assertEquals(Map.of("net", 3), store.set(totalsLens, Map.of("net", 3)).totals());
+        assertEquals(Map.of("net", 3, "gross", 4), store.modify(totalsLens, totals -> {
+            var updated = new HashMap<>(totals);
+            updated.put("gross", 4);
+            return updated;
+        }).totals());
+        assertTrue(store.contention().isEmpty());
+    }
+
+    @Test
+    void contendedUpdatesAreRetried() {
+        var store = OpticStore.of(new Counters(0, 0));
+        var calls = new AtomicInteger();
+
+        var updated = store.modify(hitsLens, hits -> {
+            if (calls.getAndIncrement() == 0) {
+                store.modify(missesLens, misses -> misses + 1);
+            }
+            return hits + 1;
+        });
+
+        assertEquals(new Counters(1, 1), updated);
+        assertEquals(2, calls.get());
+        assertEquals(1, store.contention("hits").retries());
+        assertTrue(store.contention("hits").failedCas() >= 1);
+        assertNull(store.contention("misses"));
+    }
+
+    @Test
+    void concurrentUpdatesAreNotLost() throws Exception {
+        var store = OpticStore.of(new Counters(0, 0));
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        store.modify(hitsLens, hits -> hits + 1);
+                    }
+                }));
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(40_000, store.get(hitsLens));
+        var contention = store.contention("hits");
+        assertTrue(contention == null || contention.failedCas() >= contention.retries());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.gerdreiss.optics.core.OpticsMetrics.Operation;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class OpticsMetricsTest {
+
+    record Line(String product, int quantity) {}
+
+    record Order(String id, List<Line> lines) {}
+
+    private final ListLens<Order, Line> orderLinesLens =
+            ListLens.of(Order::lines, (order, lines) -> new Order(order.id(), lines));
+    private final Lens<Line, Integer> lineQuantityLens =
+            Lens.of(Line::quantity, (line, quantity) -> new Line(line.product(), quantity));
+
+    private final Order order = new Order("order", List.of(new Line("a", 1), new Line("b", 2)));
+
+    @AfterEach
+    void uninstall() {
+        OpticsMetrics.uninstall();
+    }
+
+    @Test
+    void registry() {
+        var registry = OpticsMetricsRegistry.create();
+        var linesLens = orderLinesLens.instrumented("order.lines", registry);
+        var quantityLens = lineQuantityLens.instrumented("line.quantity", registry);
+        var quantitiesLens = linesLens.andThen(quantityLens);
+
+        quantitiesLens.getList(order);
+        linesLens.modify(order, line -> line);
+        quantityLens.set(new Line("c", 3), 4);
+
+        assertEquals(1, registry.stats("order.lines", Operation.GET).calls());
+        assertEquals(2, registry.stats("order.lines", Operation.GET).elements());
+        assertEquals(1, registry.stats("order.lines", Operation.MODIFY).calls());
+        assertEquals(2, registry.stats("line.quantity", Operation.GET).calls());
+        assertEquals(1, registry.stats("line.quantity", Operation.SET).calls());
+        assertNull(registry.stats("line.quantity", Operation.MODIFY));
+        assertEquals(2, registry.stats("line.quantity", Operation.GET).latencies().count());
+        assertTrue(registry.report().contains("order.lines MODIFY calls=1"));
+
+        registry.reset();
+        assertNull(registry.stats("order.lines", Operation.GET));
+    }
+
+    @Test
+    void rebuildsAreReportedAsSets() {
+        var registry = OpticsMetricsRegistry.create();
+        var linesLens = orderLinesLens.instrumented("order.lines", registry);
+        var quantityLens = lineQuantityLens.instrumented("line.quantity", registry);
+        var idLens = Lens.of(Order::id, (order, id) -> new Order(id, order.lines())).instrumented("order.id", registry);
+        var idLengthLens =
+                idLens.andThen(Lens.of(String::length, (id, length) -> id.substring(0, length)).preservingIdentity());
+
+        linesLens.modifyAt(order, 1, line -> new Line(line.product(), 3));
+        linesLens.at(0).andThen(quantityLens).set(order, 4);
+        idLengthLens.set(order, 2);
+        idLengthLens.set(order, order.id().length());
+
+        assertEquals(2, registry.stats("order.lines", Operation.SET).calls());
+        assertEquals(4, registry.stats("order.lines", Operation.SET).elements());
+        assertEquals(1, registry.stats("line.quantity", Operation.SET).calls());
+        assertNull(registry.stats("order.lines", Operation.MODIFY));
+        assertEquals(1, registry.stats("order.id", Operation.SET).calls());
+        assertEquals(2, registry.stats("order.id", Operation.GET).calls());
+    }
+
+    @Test
+    void installed() {
+        var recorded = new AtomicInteger();
+        var linesView = orderLinesLens.instrumented("order.lines");
+
+        linesView.getList(order);
+        OpticsMetrics.install((optic, operation, nanos, size) -> recorded.incrementAndGet());
+        linesView.getList(order);
+        OpticsMetrics.uninstall();
+        linesView.getList(order);
+
+        assertEquals(1, recorded.get());
+    }
+
+    @Test
+    void latencyHistogram() {
+        var histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 10L);
+        }
+
+        assertEquals(100, histogram.count());
+        assertEquals(511, histogram.quantile(0.5));
+        assertEquals(1023, histogram.quantile(0.99));
+    }
+}
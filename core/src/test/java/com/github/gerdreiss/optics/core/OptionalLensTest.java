@@ -17,7 +17,9 @@ package com.github.gerdreiss.optics.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Optional;
@@ -55,6 +57,21 @@ public class OptionalLensTest extends TestModel {
         assertEquals(MAYBE_PROP.map(String::toUpperCase), updated.getPropertyOptional());
     }
 
+    @Test
+    public void preservingIdentity() {
+        var created = new InnerObj(PROP, MAYBE_PROP);
+        var empty = new InnerObj(PROP);
+        var preserving = innerObjPropertyOptionalLens.preservingIdentity();
+
+        assertSame(created, preserving.modify(created, s -> s));
+        assertSame(created, preserving.set(created, MAYBE_PROP.get()));
+        assertSame(empty, preserving.set(empty, Optional.empty()));
+        assertSame(empty, preserving.modify(empty, String::toUpperCase));
+        assertNotSame(created, preserving.set(created, new String(MAYBE_PROP.get())));
+        assertSame(created, innerObjPropertyOptionalLens.preservingIdentity(Object::equals)
+                .set(created, new String(MAYBE_PROP.get())));
+    }
+
     @Test
     public void andThen() {
         var composed =
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class PersistentVectorTest {
+
+    record Board(String name, PersistentVector<Integer> scores) {}
+
+    private final VectorLens<Board, Integer> boardScoresLens =
+            ListLens.ofVector(Board::scores, (board, scores) -> new Board(board.name(), scores));
+
+    @Test
+    void appendAndGet() {
+        var expected = new ArrayList<Integer>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 40_000; i++) {
+            vector = vector.append(i);
+            expected.add(i);
+        }
+
+        assertEquals(expected, vector);
+        assertEquals(expected.size(), vector.size());
+        assertEquals(33, vector.get(33));
+        assertEquals(39_999, vector.get(39_999));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentVector.of(1).get(1));
+    }
+
+    @Test
+    void withSharesStructure() {
+        var random = new Random(42);
+        var expected = IntStream.range(0, 5_000).boxed().collect(toList());
+        var original = PersistentVector.ofAll(expected);
+        var vector = original;
+        for (int i = 0; i < 1_000; i++) {
+            var index = random.nextInt(expected.size());
+            expected.set(index, -i);
+            vector = vector.with(index, -i);
+        }
+
+        assertEquals(expected, vector);
+        assertEquals(IntStream.range(0, 5_000).boxed().collect(toList()), original);
+        assertSame(vector, vector.with(10, vector.get(10)));
+    }
+
+    @Test
+    void slice() {
+        var vector = IntStream.range(0, 100).boxed().collect(PersistentVector.collector());
+        var slice = vector.slice(10, 20);
+
+        assertEquals(IntStream.range(10, 20).boxed().collect(toList()), slice);
+        assertEquals(List.of(12, 13), slice.slice(2, 4));
+        assertEquals(List.of(10, 11, -1), slice.slice(0, 2).append(-1));
+        assertEquals(12, vector.get(12));
+        assertEquals(-1, slice.with(5, -1).get(5));
+        assertEquals(15, vector.get(15));
+        assertThrows(IndexOutOfBoundsException.class, () -> slice.get(10));
+        assertThrows(UnsupportedOperationException.class, () -> slice.add(1));
+    }
+
+    @Test
+    void vectorLens() {
+        var board = new Board("board", IntStream.range(0, 1_000).boxed().collect(PersistentVector.collector()));
+
+        var updated = boardScoresLens.modifyAt(board, 500, score -> -score);
+        assertEquals(-500, updated.scores().get(500));
+        assertEquals(500, board.scores().get(500));
+        assertEquals(-7, boardScoresLens.at(7).set(board, -7).scores().get(7));
+        assertEquals(1_001, boardScoresLens.append(board, 1_000).scores().size());
+        assertEquals(List.of(1, 2), boardScoresLens.set(board, List.of(1, 2)).scores());
+
+        var doubled = boardScoresLens.andThen(Lens.of((Integer i) -> i, (i, j) -> j)).modify(board, i -> i * 2);
+        assertTrue(doubled.scores() instanceof PersistentVector);
+        assertEquals(1_998, doubled.scores().get(999));
+        assertSame(board, boardScoresLens.preservingIdentity().modifyWhere(board, i -> i < 10, i -> i));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class PrimitiveOpticsTest {
+
+    record Price(int cents, long timestamp, double rate) {}
+
+    record Product(String name, Price price) {}
+
+    record Catalog(List<Product> products) {}
+
+    private final Lens<Product, Price> productPriceLens =
+            Lens.of(Product::price, (product, price) -> new Product(product.name(), price));
+    private final IntLens<Price> priceCentsLens =
+            IntLens.of(Price::cents, (price, cents) -> new Price(cents, price.timestamp(), price.rate()));
+    private final LongLens<Price> priceTimestampLens =
+            LongLens.of(Price::timestamp, (price, timestamp) -> new Price(price.cents(), timestamp, price.rate()));
+    private final DoubleLens<Price> priceRateLens =
+            DoubleLens.of(Price::rate, (price, rate) -> new Price(price.cents(), price.timestamp(), rate));
+
+    private final Product product = new Product("product", new Price(100, 1000L, 0.5));
+
+    @Test
+    void intLens() {
+        var centsLens = productPriceLens.andThen(priceCentsLens);
+
+        assertEquals(100, centsLens.get(product));
+        assertEquals(0, centsLens.get(null));
+        assertEquals(-1, centsLens.getOrElse(null, -1));
+        assertEquals(OptionalInt.empty(), centsLens.getOptional(null));
+        assertEquals(250, centsLens.get(centsLens.set(product, 250)));
+        assertEquals(200, centsLens.get(centsLens.modify(product, cents -> cents * 2)));
+        assertNull(centsLens.set(null, 250));
+        assertEquals(Integer.valueOf(100), centsLens.boxed().get(product));
+    }
+
+    @Test
+    void longAndDoubleLens() {
+        var timestampLens = productPriceLens.andThen(priceTimestampLens);
+        var rateLens = priceRateLens.compose(productPriceLens);
+
+        assertEquals(1000L, timestampLens.get(product));
+        assertEquals(2000L, timestampLens.get(timestampLens.modify(product, timestamp -> timestamp * 2)));
+        assertEquals(0.5, rateLens.get(product));
+        assertEquals(0.25, rateLens.get(rateLens.set(product, 0.25)));
+    }
+
+    @Test
+    void preservingIdentity() {
+        var centsLens = productPriceLens.andThen(priceCentsLens.preservingIdentity());
+
+        assertSame(product, centsLens.set(product, 100));
+        assertSame(product, centsLens.modify(product, cents -> cents));
+        assertEquals(101, centsLens.get(centsLens.modify(product, cents -> cents + 1)));
+    }
+
+    @Test
+    void streamViews() {
+        var catalog = new Catalog(List.of(product, new Product("other", new Price(50, 2000L, 1.5))));
+        var productsView = ListView.of(Catalog::products);
+
+        var centsView = productsView.andThen(productPriceLens.andThen(priceCentsLens));
+        var ratesView = StreamView.of((Catalog c) -> c.products().stream())
+                .andThen(productPriceLens.andThen(priceRateLens));
+
+        assertEquals(150, centsView.sum(catalog));
+        assertEquals(OptionalInt.of(50), centsView.min(catalog));
+        assertEquals(0, centsView.sum(null));
+        assertEquals(OptionalDouble.of(1.5), ratesView.max(catalog));
+        assertEquals(2.0, ratesView.sum(catalog));
+    }
+}
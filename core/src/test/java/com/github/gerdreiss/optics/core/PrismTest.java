@@ -0,0 +1,116 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class PrismTest {
+
+    sealed interface Event permits Created, Renamed, Deleted {}
+
+    record Created(String id, List<String> tags) implements Event {}
+
+    record Renamed(String id, String name) implements Event {}
+
+    record Deleted(String id) implements Event {}
+
+    record Log(Event last, List<Event> events) {}
+
+    private final Prism<Event, Renamed> renamedPrism = Prism.instanceOf(Renamed.class);
+    private final Lens<Renamed, String> renamedNameLens =
+            Lens.of("name", Renamed::name, (renamed, name) -> new Renamed(renamed.id(), name));
+    private final Lens<Log, Event> logLastLens =
+            Lens.of("last", Log::last, (log, last) -> new Log(last, log.events()));
+    private final ListLens<Log, Event> logEventsLens =
+            ListLens.of(Log::events, (log, events) -> new Log(log.last(), events)).named("events");
+
+    private final Event renamed = new Renamed("1", "old");
+    private final Event deleted = new Deleted("2");
+
+    @Test
+    void getAndReverseGet() {
+        assertEquals(Optional.of(renamed), renamedPrism.getOption(renamed));
+        assertNull(renamedPrism.getOrNull(deleted));
+        assertTrue(renamedPrism.matches(renamed));
+        assertSame(renamed, renamedPrism.reverseGet((Renamed) renamed));
+        assertEquals("Renamed", renamedPrism.name());
+    }
+
+    @Test
+    void modify() {
+        assertEquals(new Renamed("1", "OLD"), renamedPrism.modify(renamed, r -> new Renamed(r.id(), "OLD")));
+        assertSame(deleted, renamedPrism.modify(deleted, r -> new Renamed(r.id(), "OLD")));
+        assertSame(renamed, renamedPrism.modify(renamed, r -> r));
+        assertSame(deleted, renamedPrism.set(deleted, new Renamed("3", "new")));
+    }
+
+    @Test
+    void cases() {
+        var cases = Prism.cases(Event.class);
+
+        assertEquals(3, cases.size());
+        assertTrue(cases.get(2).matches(deleted));
+        assertThrows(IllegalArgumentException.class, () -> Prism.cases(Renamed.class));
+    }
+
+    @Test
+    void composeWithLenses() {
+        var nameLens = renamedPrism.andThen(renamedNameLens);
+        assertEquals("Renamed.name", nameLens.name());
+        assertEquals(Optional.of("old"), nameLens.getOptional(renamed));
+        assertEquals(new Renamed("1", "new"), nameLens.set(renamed, "new"));
+        assertSame(deleted, nameLens.set(deleted, "new"));
+        assertSame(renamed, nameLens.set(renamed, Optional.empty()));
+
+        var lastNameLens = logLastLens.andThen(renamedPrism);
+        var log = new Log(renamed, List.of(renamed, deleted));
+        assertEquals(Optional.of(renamed), lastNameLens.getOptional(log));
+        var other = new Renamed("3", "other");
+        assertEquals(other, lastNameLens.set(log, other).last());
+        var deletedLog = new Log(deleted, List.of());
+        assertSame(deletedLog, lastNameLens.set(deletedLog, other));
+    }
+
+    @Test
+    void composeWithListLens() {
+        var renamedEventsLens = logEventsLens.andThen(renamedPrism).andThen(renamedNameLens);
+        var log = new Log(deleted, List.of(renamed, deleted, new Renamed("3", "other")));
+
+        assertEquals("events[*].Renamed.name", renamedEventsLens.name());
+        assertEquals(List.of("old", "other"), renamedEventsLens.getList(log));
+        var updated = renamedEventsLens.modify(log, String::toUpperCase);
+        assertEquals(List.of(new Renamed("1", "OLD"), deleted, new Renamed("3", "OTHER")), updated.events());
+        assertSame(log, logEventsLens.andThen(renamedPrism).modify(log, r -> r));
+
+        var tagsLens = Prism.<Event, Created>instanceOf(Created.class)
+                .andThen(ListLens.of(Created::tags, (Created created, List<String> tags) -> new Created("0", tags)));
+        assertEquals(List.of(), tagsLens.getList(renamed));
+        assertSame(renamed, tagsLens.modify(renamed, String::toUpperCase));
+        var created = new Created("0", List.of("a"));
+        assertEquals(new Created("0", List.of("A")), tagsLens.modify(created, String::toUpperCase));
+    }
+}
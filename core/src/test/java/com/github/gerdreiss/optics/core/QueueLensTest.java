@@ -0,0 +1,148 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class QueueLensTest {
+
+    record Message(String body) {}
+
+    record Batch(Queue<Message> messages) {}
+
+    record Inbox(Queue<Batch> batches) {}
+
+    private final QueueLens<Batch, Message> batchMessagesLens = QueueLens.of(Batch::messages, (b, ms) -> new Batch(ms));
+    private final Lens<Message, String> messageBodyLens = Lens.of(Message::body, (m, body) -> new Message(body));
+
+    private final Batch batch =
+            new Batch(new ArrayDeque<>(List.of(new Message("c"), new Message("a"), new Message("b"))));
+
+    @Test
+    public void modifyPreservesTypeAndOrder() {
+        var modified = batchMessagesLens.modify(batch, m -> new Message(m.body().toUpperCase()));
+
+        assertTrue(modified.messages() instanceof ArrayDeque);
+        assertEquals(List.of("C", "A", "B"), bodies(modified.messages()));
+
+        var linked = batchMessagesLens.modify(new Batch(new LinkedList<>(batch.messages())), m -> m);
+        assertTrue(linked.messages() instanceof LinkedList);
+    }
+
+    @Test
+    public void preservingIdentity() {
+        var preserving = batchMessagesLens.preservingIdentity();
+        var prioritized = new PriorityQueue<Message>(Comparator.comparing(Message::body));
+        prioritized.addAll(batch.messages());
+        var prioritizedBatch = new Batch(prioritized);
+
+        assertSame(batch, preserving.modify(batch, m -> m));
+        assertSame(batch, preserving.set(batch, new ArrayDeque<>(batch.messages())));
+        assertSame(prioritizedBatch, preserving.modify(prioritizedBatch, m -> m));
+        assertNotSame(batch, preserving.modify(batch, m -> new Message(m.body())));
+        assertSame(
+                batch, batchMessagesLens.preservingIdentity(Object::equals).modify(batch, m -> new Message(m.body())));
+    }
+
+    @Test
+    public void modifyKeepsComparator() {
+        var byBodyDescending = Comparator.comparing(Message::body).reversed();
+        var queue = new PriorityQueue<>(byBodyDescending);
+        queue.addAll(batch.messages());
+
+        var modified = batchMessagesLens.modify(new Batch(queue), m -> new Message(m.body() + "!"));
+
+        assertTrue(modified.messages() instanceof PriorityQueue);
+        assertSame(byBodyDescending, ((PriorityQueue<Message>) modified.messages()).comparator());
+        assertEquals("c!", modified.messages().peek().body());
+    }
+
+    @Test
+    public void concurrentQueuesStayConcurrent() {
+        var concurrent = batchMessagesLens.modify(new Batch(new ConcurrentLinkedQueue<>(batch.messages())), m -> m);
+        assertTrue(concurrent.messages() instanceof ConcurrentLinkedQueue);
+
+        var bounded = new ArrayBlockingQueue<Message>(10);
+        bounded.addAll(batch.messages());
+        var modified = batchMessagesLens.modify(new Batch(bounded), m -> new Message(m.body() + "!"));
+        assertTrue(modified.messages() instanceof ArrayBlockingQueue);
+        assertEquals(7, ((ArrayBlockingQueue<Message>) modified.messages()).remainingCapacity());
+        assertEquals(List.of("c!", "a!", "b!"), bodies(modified.messages()));
+
+        var linked = new LinkedBlockingQueue<>(batch.messages());
+        var bodiesLens = batchMessagesLens.andThen(messageBodyLens);
+        assertTrue(bodiesLens.getQueue(new Batch(linked)) instanceof LinkedBlockingQueue);
+    }
+
+    @Test
+    public void flattenedBoundedQueuesAreUnbounded() {
+        var inboxBatchesLens = QueueLens.of(Inbox::batches, (Inbox inbox, Queue<Batch> batches) -> new Inbox(batches));
+        var bounded = new ArrayBlockingQueue<Batch>(2);
+        bounded.add(batch);
+        bounded.add(batch);
+        var inbox = new Inbox(bounded);
+
+        var messages = inboxBatchesLens.andThen(batchMessagesLens).getQueue(inbox);
+        assertTrue(messages instanceof LinkedBlockingQueue);
+        assertEquals(List.of("c", "a", "b", "c", "a", "b"), bodies(messages));
+
+        var flattened = QueueView.of(Inbox::batches).andThen(QueueView.of(Batch::messages)).getQueue(inbox);
+        assertEquals(6, flattened.size());
+
+        var modified = inboxBatchesLens.modify(inbox, b -> b);
+        assertEquals(0, ((ArrayBlockingQueue<Batch>) modified.batches()).remainingCapacity());
+    }
+
+    @Test
+    public void andThen() {
+        var bodiesLens = batchMessagesLens.andThen(messageBodyLens);
+
+        assertEquals(List.of("c", "a", "b"), new ArrayList<>(bodiesLens.getQueue(batch)));
+        assertEquals(List.of("cc", "aa", "bb"), bodies(bodiesLens.modify(batch, body -> body + body).messages()));
+    }
+
+    @Test
+    public void nullTarget() {
+        assertTrue(batchMessagesLens.getQueue(null).isEmpty());
+        assertSame(batchMessagesLens.getQueue(null), batchMessagesLens.andThen(messageBodyLens).getQueue(null));
+        assertThrows(UnsupportedOperationException.class, () -> batchMessagesLens.getQueue(null).add(new Message("a")));
+    }
+
+    private static List<String> bodies(Queue<Message> messages) {
+        var bodies = new ArrayList<String>();
+        messages.forEach(m -> bodies.add(m.body()));
+        return bodies;
+    }
+}
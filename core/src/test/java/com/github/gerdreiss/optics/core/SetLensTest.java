@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Comparator;
+import java.util.Set;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class SetLensTest {
+
+    record Product(String id, Set<String> tags) {}
+
+    private final SetLens<Product, String> productTagsLens =
+            SetLens.of(Product::tags, (product, tags) -> new Product(product.id(), tags));
+
+    private final Product product = new Product("product", Set.of("a", "b", "c", "d", "e", "f", "g", "h"));
+
+    @Test
+    void preservingIdentity() {
+        var preserving = productTagsLens.preservingIdentity();
+
+        assertSame(product, preserving.modify(product, tag -> tag));
+        assertSame(product, preserving.set(product, Set.copyOf(product.tags())));
+        assertNotSame(product, preserving.modify(product, String::new));
+        assertNotSame(product, preserving.modify(product, tag -> "x"));
+        assertEquals(
+                Set.of("a", "b", "c", "d", "e", "f", "g", "H"),
+                preserving.modify(product, tag -> tag.equals("h") ? "H" : tag).tags());
+        assertSame(product, productTagsLens.preservingIdentity(Object::equals).modify(product, String::new));
+    }
+
+    @Test
+    void preservingIdentityOfSortedSets() {
+        var sorted = new TreeSet<String>(Comparator.reverseOrder());
+        sorted.addAll(product.tags());
+        var reversed = new Product("reversed", sorted);
+
+        assertSame(reversed, productTagsLens.preservingIdentity().modify(reversed, tag -> tag));
+    }
+
+    @Test
+    void composedSettersPreserveIdentity() {
+        var tagLengthsLens = productTagsLens.andThen(Lens.<String, Integer>of(
+                String::length, (tag, length) -> tag.substring(0, length)).preservingIdentity());
+
+        assertSame(product, tagLengthsLens.modify(product, length -> length));
+    }
+}
@@ -159,4 +159,17 @@ class StreamViewTest extends TestModel {
         var properties = composed.getStream(o);
         assertEquals(4, properties.count());
     }
+
+    @Test
+    void parallel() {
+        var o = new InnerObj(null, Optional.empty(), Stream.of("val1", "val2", "val3"));
+        var parallelView = innerObjPropertyStreamView.parallel();
+
+        var lengths = parallelView.andThen(View.of(String::length)).getStream(o);
+
+        assertTrue(lengths.isParallel());
+        var ordered = new InnerObj(null, Optional.empty(), Stream.of("val1", "val2"));
+        assertEquals(Optional.of("val1"), parallelView.getFirst(ordered));
+        assertEquals(0, parallelView.getStream(null).count());
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class UpdateTest {
+
+    record Address(String street, String city, String zip) {}
+
+    record Customer(String name, Address address) {}
+
+    record State(long version, Customer customer) {}
+
+    private final AtomicInteger customers = new AtomicInteger();
+    private final AtomicInteger states = new AtomicInteger();
+
+    private final Lens<State, Long> versionLens = Lens.of("version", State::version, (state, version) -> {
+        states.incrementAndGet();
+        return new State(version, state.customer());
+    });
+    private final Lens<State, Customer> customerLens = Lens.of("customer", State::customer, (state, customer) -> {
+        states.incrementAndGet();
+        return new State(state.version(), customer);
+    });
+    private final Lens<Customer, String> nameLens = Lens.of("name", Customer::name, (customer, name) -> {
+        customers.incrementAndGet();
+        return new Customer(name, customer.address());
+    });
+    private final Lens<Customer, Address> addressLens = Lens.of("address", Customer::address, (customer, address) -> {
+        customers.incrementAndGet();
+        return new Customer(customer.name(), address);
+    });
+    private final Lens<Address, String> streetLens =
+            Lens.of("street", Address::street, (address, street) -> new Address(street, address.city(), address.zip()));
+    private final Lens<Address, String> cityLens =
+            Lens.of("city", Address::city, (address, city) -> new Address(address.street(), city, address.zip()));
+
+    private final State state = new State(1, new Customer("name", new Address("street", "city", "12345")));
+
+    @Test
+    void siblingsRebuildTheirParentOncePerChangedProperty() {
+        var customerAddress = customerLens.andThen(addressLens);
+        var update = Update.<State>of()
+                .modify(versionLens, version -> version + 1)
+                .set(customerLens.andThen(nameLens), "NAME")
+                .set(customerAddress.andThen(streetLens), "STREET")
+                .modify(customerAddress.andThen(cityLens), String::toUpperCase);
+
+        var updated = update.apply(state);
+
+        assertEquals(new State(2, new Customer("NAME", new Address("STREET", "CITY", "12345"))), updated);
+        assertEquals(2, states.get());
+        assertEquals(2, customers.get());
+        assertEquals(
+                "Update[version, customer.name, customer.address.street, customer.address.city]",
+                update.toString());
+    }
+
+    @Test
+    void registeredConstructorsRebuildTheParentOnce() {
+        var customerAddress = customerLens.andThen(addressLens);
+        var update = Update.<State>of()
+                .modify(versionLens, version -> version + 1)
+                .set(customerLens.andThen(nameLens), "NAME")
+                .set(customerAddress.andThen(streetLens), "STREET")
+                .rebuilding(State.class, fields -> {
+                    states.incrementAndGet();
+                    return new State(fields.get(versionLens), fields.get(customerLens));
+                })
+                .rebuilding(Customer.class, fields -> {
+                    customers.incrementAndGet();
+                    return new Customer(fields.get(nameLens), fields.get(addressLens));
+                });
+
+        assertEquals(new State(2, new Customer("NAME", new Address("STREET", "city", "12345"))), update.apply(state));
+        assertEquals(1, states.get());
+        assertEquals(1, customers.get());
+
+        var single = Update.<State>of()
+                .set(customerLens.andThen(nameLens), "NAME")
+                .rebuilding(Customer.class, fields -> new Customer(fields.get(nameLens), null));
+        assertEquals(state.customer().address(), single.apply(state).customer().address());
+    }
+
+    @Test
+    void updatesAreAppliedInOrder() {
+        var customerName = customerLens.andThen(nameLens);
+        var update = Update.<State>of()
+                .set(customerName, "first")
+                .set(customerLens, new Customer("second", state.customer().address()))
+                .modify(customerName, name -> name + "!");
+
+        assertEquals("second!", update.apply(state).customer().name());
+    }
+
+    @Test
+    void unchangedUpdatesReturnTheTarget() {
+        var update = Update.<State>of()
+                .set(customerLens.andThen(nameLens), "name")
+                .modify(customerLens.andThen(addressLens).andThen(cityLens), city -> city);
+
+        assertSame(state, update.apply(state));
+        assertSame(state, Update.<State>of().apply(state));
+        assertEquals(0, states.get() + customers.get());
+        assertNull(update.apply(null));
+    }
+}
@@ -15,10 +15,13 @@
  */
 package com.github.gerdreiss.optics.core;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.Arrays;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.runner.JUnitPlatform;
@@ -165,4 +168,17 @@ public class ViewTest extends TestModel {
                 rootObj.getNestedObj().getInnerObj().getPropertyOptional(),
                 composedMaybeMaybePropertyOptional.getOptional(rootObj));
     }
+
+    @Test
+    public void getAllAndGetInto() {
+        var targets = Arrays.asList(new InnerObj("a"), null, new InnerObj("c"));
+        var values = new String[3];
+
+        innerObjPropertyView.getInto(targets.toArray(new InnerObj[0]), values);
+
+        assertEquals(Arrays.asList("a", null, "c"), innerObjPropertyView.getAll(targets));
+        assertArrayEquals(new String[] {"a", null, "c"}, values);
+        assertThrows(IllegalArgumentException.class,
+                () -> innerObjPropertyView.getInto(targets.toArray(new InnerObj[0]), new String[2]));
+    }
 }
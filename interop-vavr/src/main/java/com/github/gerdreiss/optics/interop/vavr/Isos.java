@@ -0,0 +1,43 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.interop.vavr;
+
+import com.github.gerdreiss.optics.core.Iso;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.List;
+import io.vavr.collection.Set;
+import io.vavr.control.Option;
+import java.util.Optional;
+
+/**
+ * Isos between the {@code java.util} types and their vavr counterparts
+ */
+public final class Isos {
+
+    private Isos() {}
+
+    public static <A> Iso<java.util.List<A>, List<A>> list() {
+        return Iso.of(List::ofAll, (List<A> list) -> list.asJava());
+    }
+
+    public static <A> Iso<java.util.Set<A>, Set<A>> set() {
+        return Iso.of(HashSet::ofAll, (Set<A> set) -> set.toJavaSet());
+    }
+
+    public static <A> Iso<Optional<A>, Option<A>> option() {
+        return Iso.of(Option::ofOptional, Option::toJavaOptional);
+    }
+}
@@ -4,6 +4,7 @@ import com.github.gerdreiss.optics.core.Lens;
 import io.vavr.collection.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 public class ListLens<A, B> extends ListView<A, B> {
 
@@ -35,6 +36,57 @@ public class ListLens<A, B> extends ListView<A, B> {
         return set(target, getList(target).map(modifier));
     }
 
+    /**
+     * Modifies the value at the given index, or returns the target if the index is out of bounds or the modifier
+     * returns the value itself. The list is updated in place of being rebuilt, sharing the values after the index.
+     */
+    public A modifyAt(A target, int index, Function<B, B> modifier) {
+        if (target == null) {
+            return null;
+        }
+        var values = getList(target);
+        if (index < 0 || index >= values.size()) {
+            return target;
+        }
+        var value = values.get(index);
+        var modified = modifier.apply(value);
+        return modified == value ? target : set(target, values.update(index, modified));
+    }
+
+    /**
+     * Modifies the values matching the given predicate, or returns the target if no value changes. The list is rebuilt
+     * in a single pass, instead of being updated at each changed index, which would walk the list again for each.
+     */
+    public A modifyWhere(A target, Predicate<? super B> predicate, Function<B, B> modifier) {
+        if (target == null) {
+            return null;
+        }
+        var values = getList(target);
+        var changed = new boolean[1];
+        var updated = values.map(value -> {
+            if (!predicate.test(value)) {
+                return value;
+            }
+            var modified = modifier.apply(value);
+            changed[0] |= modified != value;
+            return modified;
+        });
+        return changed[0] ? set(target, updated) : target;
+    }
+
+    /**
+     * Modifies the first value matching the given predicate, or returns the target if no value matches or the modifier
+     * returns the value itself
+     */
+    public A modifyFirst(A target, Predicate<? super B> predicate, Function<B, B> modifier) {
+        if (target == null) {
+            return null;
+        }
+        var values = getList(target);
+        var index = values.indexWhere(predicate);
+        return index < 0 ? target : modifyAt(target, index, modifier);
+    }
+
     public <C> ListLens<A, C> andThen(Lens<B, C> that) {
         return ListLens.of(
                 (A a) -> getList(a).map(that::get),
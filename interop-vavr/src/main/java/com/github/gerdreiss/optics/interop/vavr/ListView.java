@@ -43,6 +43,18 @@ public class ListView<A, B> implements Function<A, List<B>> {
         return a == null ? List.empty() : fget.apply(a);
     }
 
+    public Option<B> getFirst(A a) {
+        return getList(a).headOption();
+    }
+
+    public Option<B> getLast(A a) {
+        return getList(a).lastOption();
+    }
+
+    public Option<B> getAt(A a, int n) {
+        return getList(a).drop(n).headOption();
+    }
+
     public <C> ListView<A, C> andThen(final View<B, C> that) {
         return ListView.of((A a) -> getList(a).map(that::get));
     }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.interop.vavr;
+
+import com.github.gerdreiss.optics.core.Lens;
+import io.vavr.collection.Map;
+import io.vavr.control.Option;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A lens into a vavr map, which updates single entries by putting and removing them, so that an update shares all but
+ * the path to the entry with the current map. The target is returned as is if an update leaves the map unchanged.
+ *
+ * @param <A> The object into whose map we want to view or update
+ * @param <K> The keys of the map
+ * @param <V> The values of the map
+ */
+public class MapLens<A, K, V> extends MapView<A, K, V> {
+
+    private final BiFunction<A, Map<K, V>, A> fset;
+
+    MapLens(Function<A, Map<K, V>> fget, BiFunction<A, Map<K, V>, A> fset) {
+        super(fget);
+        this.fset = fset;
+    }
+
+    public static <A, K, V> MapLens<A, K, V> of(
+            Function<A, Map<K, V>> fget, BiFunction<A, Map<K, V>, A> fset) {
+        return new MapLens<>(fget, fset);
+    }
+
+    public A set(A target, Map<K, V> map) {
+        return target == null ? null : fset.apply(target, map);
+    }
+
+    public Function<Map<K, V>, A> set(A target) {
+        return (Map<K, V> map) -> set(target, map);
+    }
+
+    public A modify(A target, Function<Map<K, V>, Map<K, V>> modifier) {
+        return set(target, modifier.apply(getMap(target)));
+    }
+
+    /**
+     * Puts the value of the key, or returns the target if the value is the current value of the key
+     */
+    public A put(A target, K key, V value) {
+        if (target == null) {
+            return null;
+        }
+        var map = getMap(target);
+        var current = map.get(key);
+        return current.isDefined() && current.get() == value ? target : set(target, map.put(key, value));
+    }
+
+    /**
+     * Removes the key, or returns the target if the map does not contain the key
+     */
+    public A remove(A target, K key) {
+        if (target == null) {
+            return null;
+        }
+        var map = getMap(target);
+        return map.containsKey(key) ? set(target, map.remove(key)) : target;
+    }
+
+    /**
+     * Returns a lens focusing on the value of the key, which is empty if the map does not contain the key. Setting an
+     * empty value removes the key.
+     */
+    public OptionLens<A, V> at(K key) {
+        return OptionLens.of(
+                (A a) -> getMap(a).get(key),
+                (A a, Option<V> maybeV) -> maybeV.isDefined() ? put(a, key, maybeV.get()) : remove(a, key));
+    }
+
+    /**
+     * Modifies the value of the key, or returns the target if the map does not contain the key or the modifier returns
+     * the value itself
+     */
+    public A modifyAt(A target, K key, Function<V, V> modifier) {
+        if (target == null) {
+            return null;
+        }
+        var map = getMap(target);
+        var value = map.get(key);
+        if (value.isEmpty()) {
+            return target;
+        }
+        var modified = modifier.apply(value.get());
+        return modified == value.get() ? target : set(target, map.put(key, modified));
+    }
+
+    /**
+     * Modifies the values by putting the changed ones, instead of mapping the whole map. The target is returned as is
+     * if no value changes.
+     */
+    public A modifyValues(A target, Function<V, V> modifier) {
+        return updateValues(target, (K key, V value) -> modifier.apply(value));
+    }
+
+    /**
+     * Keeps the entries whose keys match the predicate by removing the other ones, or returns the target if all keys
+     * match
+     */
+    public A filterKeys(A target, Predicate<? super K> predicate) {
+        if (target == null) {
+            return null;
+        }
+        var map = getMap(target);
+        var updated = map;
+        for (var key : map.keysIterator()) {
+            if (!predicate.test(key)) {
+                updated = updated.remove(key);
+            }
+        }
+        return updated == map ? target : set(target, updated);
+    }
+
+    private A updateValues(A target, BiFunction<K, V, V> update) {
+        if (target == null) {
+            return null;
+        }
+        var map = getMap(target);
+        var updated = map;
+        for (var entry : map) {
+            var modified = update.apply(entry._1, entry._2);
+            if (modified != entry._2) {
+                updated = updated.put(entry._1, modified);
+            }
+        }
+        return updated == map ? target : set(target, updated);
+    }
+
+    /**
+     * Returns a lens focusing on a property of the values. Setting the properties puts the values of the keys whose
+     * property in the given map is not the current instance.
+     */
+    public <V1> MapLens<A, K, V1> andThen(Lens<V, V1> that) {
+        return MapLens.of(
+                (A a) -> getMap(a).mapValues(that::get),
+                (A a, Map<K, V1> values) -> updateValues(a, (K key, V value) -> {
+                    var updated = values.get(key);
+                    return updated.isEmpty() || updated.get() == that.get(value)
+                            ? value
+                            : that.set(value, updated.get());
+                }));
+    }
+
+    /**
+     * Returns a lens focusing on the map of a property, which rebuilds the target only if the map changes
+     */
+    public <C> MapLens<C, K, V> compose(Lens<C, A> that) {
+        return MapLens.of(
+                (C c) -> getMap(that.get(c)),
+                (C c, Map<K, V> map) -> {
+                    var a = that.get(c);
+                    return map == getMap(a) ? c : that.set(c, set(a, map));
+                });
+    }
+}
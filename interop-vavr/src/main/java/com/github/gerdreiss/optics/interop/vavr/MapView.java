@@ -16,7 +16,6 @@
 package com.github.gerdreiss.optics.interop.vavr;
 
 import com.github.gerdreiss.optics.core.View;
-import io.vavr.Tuple;
 import io.vavr.collection.HashMap;
 import io.vavr.collection.Map;
 import io.vavr.collection.Traversable;
@@ -44,15 +43,11 @@ public class MapView<A, K, V> implements Function<A, Map<K, V>> {
     }
 
     public <V1> MapView<A, K, V1> andThen(final View<V, V1> that) {
-        return MapView.of((A a) -> getMap(a)
-                .map(t -> Tuple.of(t._1, that.get(t._2)))
-                .toMap(t -> t._1, t -> t._2));
+        return MapView.of((A a) -> getMap(a).mapValues(that::get));
     }
 
     public <K1, V1> MapView<A, K, Traversable<V1>> andThen(final MapView<V, K1, V1> that) {
-        return MapView.of((A a) -> getMap(a)
-                .map(t -> Tuple.of(t._1, that.getMap(t._2).values()))
-                .toMap(t -> t._1, t -> t._2));
+        return MapView.of((A a) -> getMap(a).mapValues(v -> that.getMap(v).values()));
     }
 
     public <V1> MapView<V1, K, Traversable<V>> compose(final MapView<V1, K, A> that) {
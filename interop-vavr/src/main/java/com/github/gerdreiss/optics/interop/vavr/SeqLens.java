@@ -1,10 +1,12 @@
 package com.github.gerdreiss.optics.interop.vavr;
 
 import com.github.gerdreiss.optics.core.Lens;
+import io.vavr.collection.IndexedSeq;
 import io.vavr.collection.List;
 import io.vavr.collection.Seq;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 public class SeqLens<A, B> extends SeqView<A, B> {
 
@@ -36,6 +38,72 @@ public class SeqLens<A, B> extends SeqView<A, B> {
         return Seq(target, getSeq(target).map(modifier));
     }
 
+    /**
+     * Modifies the value at the given index, or returns the target if the index is out of bounds or the modifier
+     * returns the value itself. The sequence is updated in place of being rebuilt, which takes O(log n) time for a vavr
+     * {@code Vector}.
+     */
+    public A modifyAt(A target, int index, Function<B, B> modifier) {
+        if (target == null) {
+            return null;
+        }
+        var values = getSeq(target);
+        if (index < 0 || index >= values.size()) {
+            return target;
+        }
+        var value = values.get(index);
+        var modified = modifier.apply(value);
+        return modified == value ? target : Seq(target, values.update(index, modified));
+    }
+
+    /**
+     * Modifies the values matching the given predicate, or returns the target if no value changes. An indexed sequence
+     * is updated only at the indices whose value changes, any other sequence is rebuilt in a single pass, instead of
+     * being walked again for each changed index.
+     */
+    public A modifyWhere(A target, Predicate<? super B> predicate, Function<B, B> modifier) {
+        if (target == null) {
+            return null;
+        }
+        var values = getSeq(target);
+        if (!(values instanceof IndexedSeq)) {
+            var changed = new boolean[1];
+            var updated = values.map(value -> {
+                if (!predicate.test(value)) {
+                    return value;
+                }
+                var modified = modifier.apply(value);
+                changed[0] |= modified != value;
+                return modified;
+            });
+            return changed[0] ? Seq(target, updated) : target;
+        }
+        var updated = values;
+        var index = 0;
+        for (var value : values) {
+            if (predicate.test(value)) {
+                var modified = modifier.apply(value);
+                if (modified != value) {
+                    updated = updated.update(index, modified);
+                }
+            }
+            index++;
+        }
+        return updated == values ? target : Seq(target, updated);
+    }
+
+    /**
+     * Modifies the first value matching the given predicate, or returns the target if no value matches or the modifier
+     * returns the value itself
+     */
+    public A modifyFirst(A target, Predicate<? super B> predicate, Function<B, B> modifier) {
+        if (target == null) {
+            return null;
+        }
+        var index = getSeq(target).indexWhere(predicate);
+        return index < 0 ? target : modifyAt(target, index, modifier);
+    }
+
     public <C> SeqLens<A, C> andThen(Lens<B, C> that) {
         return SeqLens.of(
                 (A a) -> getSeq(a).map(that::get),
@@ -17,8 +17,10 @@ package com.github.gerdreiss.optics.interop.vavr;
 
 import com.github.gerdreiss.optics.core.OptionalView;
 import com.github.gerdreiss.optics.core.View;
+import io.vavr.collection.IndexedSeq;
 import io.vavr.collection.List;
 import io.vavr.collection.Seq;
+import io.vavr.collection.Traversable;
 import io.vavr.control.Option;
 import java.util.Optional;
 import java.util.function.Function;
@@ -44,6 +46,29 @@ public class SeqView<A, B> implements Function<A, Seq<B>> {
         return a == null ? List.empty() : fget.apply(a);
     }
 
+    public Option<B> getFirst(A a) {
+        return getSeq(a).headOption();
+    }
+
+    public Option<B> getLast(A a) {
+        return getSeq(a).lastOption();
+    }
+
+    /**
+     * Returns the element at the given index in effectively constant time if the sequence is indexed
+     */
+    public Option<B> getAt(A a, int n) {
+        return elementAt(getSeq(a), n);
+    }
+
+    static <B> Option<B> elementAt(Traversable<B> values, int n) {
+        if (values instanceof IndexedSeq) {
+            var indexed = (IndexedSeq<B>) values;
+            return n >= 0 && n < indexed.size() ? Option.some(indexed.get(n)) : Option.none();
+        }
+        return values.drop(n).headOption();
+    }
+
     public <C> SeqView<A, C> andThen(final View<B, C> that) {
         return SeqView.of((A a) -> getSeq(a).map(that::get));
     }
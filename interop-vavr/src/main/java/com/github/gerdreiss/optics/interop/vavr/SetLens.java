@@ -2,9 +2,11 @@ package com.github.gerdreiss.optics.interop.vavr;
 
 import com.github.gerdreiss.optics.core.Lens;
 import io.vavr.collection.HashSet;
+import io.vavr.collection.List;
 import io.vavr.collection.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 public class SetLens<A, B> extends SetView<A, B> {
 
@@ -36,6 +38,43 @@ public class SetLens<A, B> extends SetView<A, B> {
         return set(target, getSet(target).map(modifier));
     }
 
+    /**
+     * Replaces an element of the set by removing it and adding the replacement, or returns the target if the set does
+     * not contain the element or the replacement is the element itself
+     */
+    public A replace(A target, B element, B replacement) {
+        if (target == null) {
+            return null;
+        }
+        var values = getSet(target);
+        return element == replacement || !values.contains(element)
+                ? target
+                : set(target, values.remove(element).add(replacement));
+    }
+
+    /**
+     * Modifies the elements matching the given predicate by removing the changed ones and adding their replacements,
+     * instead of mapping the whole set. The target is returned as is if no element changes.
+     */
+    public A modifyWhere(A target, Predicate<? super B> predicate, Function<B, B> modifier) {
+        if (target == null) {
+            return null;
+        }
+        var values = getSet(target);
+        var updated = values;
+        var added = List.<B>empty();
+        for (var value : values) {
+            if (predicate.test(value)) {
+                var modified = modifier.apply(value);
+                if (modified != value) {
+                    updated = updated.remove(value);
+                    added = added.prepend(modified);
+                }
+            }
+        }
+        return added.isEmpty() ? target : set(target, updated.addAll(added));
+    }
+
     public <C> SetLens<A, C> andThen(Lens<B, C> that) {
         return SetLens.of(
                 (A a) -> getSet(a).map(that::get),
@@ -52,7 +52,7 @@ public class TraversableView<A, B> implements Function<A, Traversable<B>> {
     }
 
     public Option<B> getAt(A a, int n) {
-        return a == null ? Option.none() : fget.apply(a).drop(n).headOption();
+        return a == null ? Option.none() : SeqView.elementAt(fget.apply(a), n);
     }
 
     public Traversable<B> find(A a, Predicate<B> predicate) {
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.interop.vavr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.vavr.collection.List;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class ListLensTest {
+
+    record Order(String id, List<Integer> lines) {}
+
+    private final ListLens<Order, Integer> orderLinesLens =
+            ListLens.of(Order::lines, (order, lines) -> new Order(order.id(), lines));
+
+    private final Order order = new Order("order", List.of(1, 2, 3, 4));
+
+    @Test
+    void modifyAt() {
+        assertEquals(List.of(1, 20, 3, 4), orderLinesLens.modifyAt(order, 1, line -> line * 10).lines());
+        assertSame(order, orderLinesLens.modifyAt(order, 4, line -> line * 10));
+        assertSame(order, orderLinesLens.modifyAt(order, -1, line -> line * 10));
+        assertSame(order, orderLinesLens.modifyAt(order, 1, line -> line));
+        assertNull(orderLinesLens.modifyAt(null, 1, line -> line * 10));
+    }
+
+    @Test
+    void modifyWhere() {
+        var updated = orderLinesLens.modifyWhere(order, line -> line % 2 == 0, line -> line * 10);
+
+        assertEquals(List.of(1, 20, 3, 40), updated.lines());
+        assertSame(order, orderLinesLens.modifyWhere(order, line -> line > 4, line -> line * 10));
+        assertSame(order, orderLinesLens.modifyWhere(order, line -> true, line -> line));
+        assertNull(orderLinesLens.modifyWhere(null, line -> true, line -> line * 10));
+    }
+
+    @Test
+    void modifyFirst() {
+        var updated = orderLinesLens.modifyFirst(order, line -> line % 2 == 0, line -> line * 10);
+
+        assertEquals(List.of(1, 20, 3, 4), updated.lines());
+        assertSame(order, orderLinesLens.modifyFirst(order, line -> line > 4, line -> line * 10));
+        assertSame(order, orderLinesLens.modifyFirst(order, line -> line == 2, line -> line));
+    }
+}
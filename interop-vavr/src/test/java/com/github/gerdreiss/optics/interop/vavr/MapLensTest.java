@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.interop.vavr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.gerdreiss.optics.core.Lens;
+import com.github.gerdreiss.optics.core.View;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.LinkedHashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.TreeMap;
+import io.vavr.control.Option;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class MapLensTest {
+
+    record Setting(String value, int version) {}
+
+    record Tenant(String id, Map<String, Setting> settings) {}
+
+    private final MapLens<Tenant, String, Setting> settingsLens =
+            MapLens.of(Tenant::settings, (tenant, settings) -> new Tenant(tenant.id(), settings));
+    private final Lens<Setting, String> settingValueLens =
+            Lens.of(Setting::value, (setting, value) -> new Setting(value, setting.version()));
+
+    private final Setting dark = new Setting("dark", 1);
+    private final Setting en = new Setting("en", 1);
+    private final Tenant tenant = new Tenant("t1", HashMap.of("theme", dark, "locale", en));
+
+    @Test
+    void entryUpdates() {
+        var light = new Setting("light", 2);
+
+        assertEquals(HashMap.of("theme", light, "locale", en), settingsLens.put(tenant, "theme", light).settings());
+        assertEquals(HashMap.of("locale", en), settingsLens.remove(tenant, "theme").settings());
+        assertEquals(HashMap.of("theme", light, "locale", en), settingsLens.at("theme").set(tenant, light).settings());
+        assertEquals(HashMap.of("locale", en), settingsLens.at("theme").set(tenant, Option.none()).settings());
+        assertEquals(Option.of(dark), settingsLens.at("theme").getOption(tenant));
+        assertEquals(
+                HashMap.of("theme", new Setting("dark", 2), "locale", en),
+                settingsLens.modifyAt(tenant, "theme", s -> new Setting(s.value(), 2)).settings());
+        assertEquals(HashMap.of("theme", dark), settingsLens.filterKeys(tenant, key -> key.equals("theme")).settings());
+        assertNull(settingsLens.put(null, "theme", light));
+    }
+
+    @Test
+    void unchangedUpdatesReturnTheTarget() {
+        assertSame(tenant, settingsLens.put(tenant, "theme", dark));
+        assertSame(tenant, settingsLens.remove(tenant, "missing"));
+        assertSame(tenant, settingsLens.at("theme").set(tenant, dark));
+        assertSame(tenant, settingsLens.at("missing").set(tenant, Option.none()));
+        assertSame(tenant, settingsLens.modifyAt(tenant, "missing", s -> new Setting(s.value(), 2)));
+        assertSame(tenant, settingsLens.modifyAt(tenant, "theme", s -> s));
+        assertSame(tenant, settingsLens.modifyValues(tenant, s -> s));
+        assertSame(tenant, settingsLens.filterKeys(tenant, key -> true));
+    }
+
+    @Test
+    void andThenSetsOnlyTheChangedEntries() {
+        var valuesLens = settingsLens.andThen(settingValueLens);
+
+        assertEquals(HashMap.of("theme", "dark", "locale", "en"), valuesLens.getMap(tenant));
+        var updated = valuesLens.set(tenant, HashMap.of("theme", "light", "locale", "en"));
+        assertEquals(HashMap.of("theme", new Setting("light", 1), "locale", en), updated.settings());
+        assertSame(en, updated.settings().get("locale").get());
+        assertSame(en, valuesLens.set(tenant, HashMap.of("theme", "light")).settings().get("locale").get());
+        assertSame(tenant, valuesLens.set(tenant, HashMap.of("theme", "dark", "locale", "en")));
+    }
+
+    @Test
+    void andThenKeepsTheTypeOfTheMap() {
+        var valuesView = MapView.of(Tenant::settings).andThen(View.of(Setting::value));
+        var linked = new Tenant("t2", LinkedHashMap.of("theme", dark, "locale", en));
+        var sorted = new Tenant("t3", TreeMap.of("theme", dark, "locale", en));
+
+        assertTrue(valuesView.getMap(linked) instanceof LinkedHashMap);
+        assertEquals(List.of("theme", "locale"), valuesView.getMap(linked).keySet().toList());
+        assertTrue(valuesView.getMap(sorted) instanceof TreeMap);
+        assertEquals(List.of("locale", "theme"), valuesView.getMap(sorted).keySet().toList());
+    }
+}
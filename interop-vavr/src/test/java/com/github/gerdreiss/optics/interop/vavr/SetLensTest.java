@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.interop.vavr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.vavr.collection.HashSet;
+import io.vavr.collection.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class SetLensTest {
+
+    record Product(String id, Set<String> tags) {}
+
+    private final SetLens<Product, String> productTagsLens =
+            SetLens.of(Product::tags, (product, tags) -> new Product(product.id(), tags));
+
+    private final Product product = new Product("product", HashSet.of("new", "sale", "summer"));
+
+    @Test
+    void replace() {
+        assertEquals(HashSet.of("old", "sale", "summer"), productTagsLens.replace(product, "new", "old").tags());
+        assertSame(product, productTagsLens.replace(product, "winter", "old"));
+        assertSame(product, productTagsLens.replace(product, "new", "new"));
+        assertNull(productTagsLens.replace(null, "new", "old"));
+    }
+
+    @Test
+    void modifyWhere() {
+        var updated = productTagsLens.modifyWhere(product, tag -> tag.startsWith("s"), String::toUpperCase);
+
+        assertEquals(HashSet.of("new", "SALE", "SUMMER"), updated.tags());
+        assertSame(product, productTagsLens.modifyWhere(product, tag -> tag.isEmpty(), String::toUpperCase));
+        assertSame(product, productTagsLens.modifyWhere(product, tag -> true, tag -> tag));
+        assertNull(productTagsLens.modifyWhere(null, tag -> true, String::toUpperCase));
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the optics of a record, or of a class with wither methods, at compile time. The optics are emitted as
+ * static constants of a class named after the annotated type with the suffix {@code Optics}, e.g. {@code OrderOptics}
+ * for {@code Order}. A component of type {@code Optional} gets an {@code OptionalLens}, a {@code List} a
+ * {@code ListLens}, a {@code Set} a {@code SetLens}, a {@code Queue} a {@code QueueLens}, a {@code Map} a
+ * {@code MapLens}, and any other component a {@code Lens}.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateOptics {
+}
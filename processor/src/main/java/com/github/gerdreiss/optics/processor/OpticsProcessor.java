@@ -0,0 +1,275 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Generates the optics of the types annotated with {@link GenerateOptics}
+ */
+@SupportedAnnotationTypes("com.github.gerdreiss.optics.processor.GenerateOptics")
+public class OpticsProcessor extends AbstractProcessor {
+
+    private static final String CORE_PACKAGE = "com.github.gerdreiss.optics.core";
+
+    /**
+     * The optic generated for a component: its class, and the container type the collection optics focus into
+     */
+    private enum OpticKind {
+        LENS("Lens", null),
+        OPTIONAL_LENS("OptionalLens", "java.util.Optional"),
+        LIST_LENS("ListLens", "java.util.List"),
+        SET_LENS("SetLens", "java.util.Set"),
+        QUEUE_LENS("QueueLens", "java.util.Queue"),
+        MAP_LENS("MapLens", "java.util.Map");
+
+        final String className;
+        final String containerType;
+
+        OpticKind(String className, String containerType) {
+            this.className = className;
+            this.containerType = containerType;
+        }
+    }
+
+    /**
+     * A component of the annotated type: its name, type, the expression reading it from {@code target}, and the
+     * expression building a copy of {@code target} with the component replaced by {@code value}
+     */
+    private static final class Component {
+
+        final String name;
+        final TypeMirror type;
+        final String getter;
+        final String setter;
+
+        Component(String name, TypeMirror type, String getter, String setter) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (var annotation : annotations) {
+            for (var element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.RECORD && element.getKind() != ElementKind.CLASS) {
+                    error(element, "@GenerateOptics is only supported on records and classes");
+                } else if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                    error(element, "@GenerateOptics is not supported on private types");
+                } else if (!((TypeElement) element).getTypeParameters().isEmpty()) {
+                    error(element, "@GenerateOptics is not supported on generic types");
+                } else {
+                    generate((TypeElement) element);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) {
+        var components = type.getKind() == ElementKind.RECORD ? recordComponents(type) : witherComponents(type);
+        var packageName = packageOf(type).getQualifiedName().toString();
+        var className = opticsClassName(type);
+        var imports = new TreeSet<String>();
+        var constants = new ArrayList<String>();
+
+        for (var component : components) {
+            var kind = opticKind(component.type);
+            imports.add(CORE_PACKAGE + "." + kind.className);
+            constants.add(constant(type, component, kind));
+        }
+
+        var qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (var out = new PrintWriter(processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            imports.forEach(i -> out.println("import " + i + ";"));
+            out.println("import javax.annotation.processing.Generated;");
+            out.println();
+            out.println("@Generated(\"" + OpticsProcessor.class.getName() + "\")");
+            var visibility = type.getModifiers().contains(Modifier.PUBLIC) ? "public " : "";
+            out.println(visibility + "final class " + className + " {");
+            constants.forEach(constant -> {
+                out.println();
+                out.println(constant);
+            });
+            out.println();
+            out.println("    private " + className + "() {");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            error(type, "Failed to generate " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private List<Component> recordComponents(TypeElement type) {
+        var recordComponents = type.getRecordComponents();
+        var components = new ArrayList<Component>();
+        for (RecordComponentElement component : recordComponents) {
+            var name = component.getSimpleName().toString();
+            var arguments = recordComponents.stream()
+                    .map(c -> c == component ? "value" : "target." + c.getAccessor().getSimpleName() + "()")
+                    .collect(Collectors.joining(", "));
+            components.add(new Component(
+                    name,
+                    component.asType(),
+                    component.getAccessor().getSimpleName().toString(),
+                    "new " + typeName(type) + "(" + arguments + ")"));
+        }
+        return components;
+    }
+
+    private List<Component> witherComponents(TypeElement type) {
+        var methods = ElementFilter.methodsIn(type.getEnclosedElements());
+        var components = new ArrayList<Component>();
+        for (ExecutableElement wither : methods) {
+            var witherName = wither.getSimpleName().toString();
+            if (!witherName.startsWith("with")
+                    || witherName.length() == 4
+                    || !Character.isUpperCase(witherName.charAt(4))
+                    || wither.getParameters().size() != 1
+                    || wither.getModifiers().contains(Modifier.STATIC)
+                    || !processingEnv.getTypeUtils().isSameType(wither.getReturnType(), type.asType())) {
+                continue;
+            }
+            var property = witherName.substring(4);
+            var name = Character.toLowerCase(property.charAt(0)) + property.substring(1);
+            var getter = methods.stream()
+                    .filter(m -> m.getParameters().isEmpty() && !m.getModifiers().contains(Modifier.STATIC))
+                    .map(m -> m.getSimpleName().toString())
+                    .filter(m -> m.equals("get" + property) || m.equals("is" + property) || m.equals(name))
+                    .findFirst();
+            if (getter.isEmpty()) {
+                error(wither, "No getter found for " + witherName);
+                continue;
+            }
+            components.add(new Component(
+                    name,
+                    wither.getParameters().get(0).asType(),
+                    getter.get(),
+                    "target." + witherName + "(value)"));
+        }
+        return components;
+    }
+
+    private String constant(TypeElement type, Component component, OpticKind kind) {
+        var typeName = typeName(type);
+        var typeArguments = kind == OpticKind.LENS
+                ? List.of(boxed(component.type))
+                : typeArguments(component.type);
+        var opticType = kind.className + "<" + typeName + ", " + String.join(", ", typeArguments) + ">";
+        var getter = typeName + "::" + component.getter;
+        var of = kind.className + ".<" + typeName + ", " + String.join(", ", typeArguments) + ">of(";
+        var factory = of + getter + ", (target, value) -> " + component.setter + ")";
+        return "    public static final " + opticType + " " + constantName(component.name) + " =\n"
+                + "            " + factory + "\n"
+                + "                    .named(\"" + component.name + "\");";
+    }
+
+    private OpticKind opticKind(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return OpticKind.LENS;
+        }
+        var erasure = processingEnv.getTypeUtils().erasure(type).toString();
+        var arguments = ((DeclaredType) type).getTypeArguments();
+        if (arguments.isEmpty() || arguments.stream().anyMatch(a -> a.getKind() == TypeKind.WILDCARD)) {
+            return OpticKind.LENS;
+        }
+        for (var kind : OpticKind.values()) {
+            if (erasure.equals(kind.containerType)) {
+                return kind;
+            }
+        }
+        return OpticKind.LENS;
+    }
+
+    private List<String> typeArguments(TypeMirror type) {
+        return ((DeclaredType) type).getTypeArguments().stream().map(TypeMirror::toString).collect(Collectors.toList());
+    }
+
+    private String boxed(TypeMirror type) {
+        return type.getKind().isPrimitive()
+                ? processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString()
+                : type.toString();
+    }
+
+    /**
+     * The name of the type relative to its package, which is where its optics are generated
+     */
+    private static String typeName(TypeElement type) {
+        var packageName = packageOf(type).getQualifiedName().toString();
+        var qualifiedName = type.getQualifiedName().toString();
+        return packageName.isEmpty() ? qualifiedName : qualifiedName.substring(packageName.length() + 1);
+    }
+
+    private static String opticsClassName(TypeElement type) {
+        var name = new StringBuilder(type.getSimpleName()).append("Optics");
+        for (var e = type.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+            name.insert(0, ((TypeElement) e).getSimpleName() + "_");
+        }
+        return name.toString();
+    }
+
+    private static String constantName(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+    }
+
+    private static PackageElement packageOf(Element element) {
+        var e = element;
+        while (!(e instanceof PackageElement)) {
+            e = e.getEnclosingElement();
+        }
+        return (PackageElement) e;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021 DiffPlug
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.gerdreiss.optics.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class OpticsProcessorTest {
+
+    private final Order order = new Order(
+            1L,
+            new Customer("name", true),
+            Optional.empty(),
+            List.of("line"),
+            Set.of("tag"),
+            new ArrayDeque<>(List.of("event")),
+            Map.of("key", "value"));
+
+    @Test
+    void recordLens() {
+        assertEquals(1L, OrderOptics.ID.get(order));
+
+        var updated = OrderOptics.ID.set(order, 2L);
+        assertEquals(2L, updated.id());
+        assertEquals(order.customer(), updated.customer());
+        assertEquals(order.lines(), updated.lines());
+    }
+
+    @Test
+    void recordCollectionOptics() {
+        assertEquals(MAYBE_NOTE, OrderOptics.NOTE.set(order, "note").note());
+        assertEquals(List.of("LINE"), OrderOptics.LINES.modify(order, String::toUpperCase).lines());
+        assertEquals(Set.of("TAG"), OrderOptics.TAGS.modify(order, String::toUpperCase).tags());
+        assertEquals("event", OrderOptics.EVENTS.getFirst(order).orElseThrow());
+        assertEquals("value", OrderOptics.ATTRIBUTES.getMap(order).get("key"));
+        assertEquals(Map.of("key", "VALUE"), OrderOptics.ATTRIBUTES.put(order, "key", "VALUE").attributes());
+        assertEquals("lines", OrderOptics.LINES.name());
+    }
+
+    @Test
+    void witherLens() {
+        assertEquals("name", CustomerOptics.NAME.get(order.customer()));
+        assertTrue(CustomerOptics.ACTIVE.get(order.customer()));
+        assertFalse(CustomerOptics.ACTIVE.set(order.customer(), false).isActive());
+    }
+
+    @Test
+    void composition() {
+        var customerName = OrderOptics.CUSTOMER.andThen(CustomerOptics.NAME);
+
+        assertEquals("name", customerName.get(order));
+        assertEquals("NAME", customerName.modify(order, String::toUpperCase).customer().getName());
+    }
+
+    private static final Optional<String> MAYBE_NOTE = Optional.of("note");
+}